@@ -0,0 +1,341 @@
+package com.kakaotechbootcamp.community.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaotechbootcamp.community.config.CompetitionProperties;
+import com.kakaotechbootcamp.community.dto.competition.CompetitionDataDto;
+import com.kakaotechbootcamp.community.dto.competition.CompetitionListItemDto;
+import com.kakaotechbootcamp.community.entity.CompetitionStatus;
+import com.kakaotechbootcamp.community.entity.CompetitionType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+/**
+ * 수영대회 목록 메모리 카탈로그
+ * - 의도: 요청마다 JSON 읽기/날짜 파싱/정렬을 반복하지 않도록 한 번 파싱한 불변 스냅샷으로 조회
+ * - 구조: (eventDate, startTime) 정렬 배열 + 유형별 정렬 배열, 각 항목의 연월 키(year*12+month-1) 배열
+ *         → 연/월 필터는 연월 키 이진 탐색으로 구간(subList)만 잘라 반환
+ * - 갱신: competition.reload-check-interval-ms 주기로 파일 수정 시각 확인, 바뀌면 다시 파싱해 스냅샷 교체
+ *         교체 후 대회 목록 응답 캐시(JsonResponseCache.Group.COMPETITIONS) 무효화
+ * - 실패: 파싱 실패 시 이전 스냅샷 유지 (최초 적재 실패 시 빈 목록)
+ * - 상태: 항목별 전환일(ongoingFrom: UPCOMING→ONGOING, completedFrom: ONGOING→COMPLETED)을 적재 시 계산,
+ *         날짜별 뷰(상태를 채운 응답 항목 배열)를 만들어 재사용
+ *         전환일 사이의 날짜는 상태가 같으므로 지나간 전환일 수(statusEpoch)가 같으면 이전 배열을 그대로 사용
+ *         자정(competition.status-refresh-cron)에 오늘 뷰를 미리 생성
+ */
+@Slf4j
+@Component
+public class CompetitionCatalog {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final long MISSING = -1L;
+
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
+    private final CompetitionProperties properties;
+    private final JsonResponseCache jsonResponseCache;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile View view;
+    private long loadedStamp = Long.MIN_VALUE;
+
+    public CompetitionCatalog(
+            ObjectMapper objectMapper,
+            ResourceLoader resourceLoader,
+            CompetitionProperties properties,
+            JsonResponseCache jsonResponseCache) {
+        this.objectMapper = objectMapper;
+        this.resourceLoader = resourceLoader;
+        this.properties = properties;
+        this.jsonResponseCache = jsonResponseCache;
+    }
+
+    @PostConstruct
+    public void init() {
+        reloadIfModified();
+    }
+
+    /**
+     * 조건에 맞는 대회 조회 (정렬 순서 유지, 상태는 today 기준)
+     * - year/month/type이 null이면 해당 조건 없음
+     * - month만 지정하면 연도별 구간을 이어붙여 반환
+     */
+    public List<CompetitionListItemDto> find(Integer year, Integer month, CompetitionType type, LocalDate today) {
+        View current = viewFor(today);
+        Partition partition = current.snapshot.partition(type);
+        List<CompetitionListItemDto> items = current.items(type);
+        if (month != null && (month < 1 || month > 12)) {
+            return List.of();
+        }
+        if (year != null) {
+            long from = yearMonthKey(year, month == null ? 1 : month);
+            return partition.slice(items, from, month == null ? from + 12 : from + 1);
+        }
+        if (month == null) {
+            return items;
+        }
+        List<CompetitionListItemDto> result = new ArrayList<>();
+        for (int y = current.snapshot.minYear; y <= current.snapshot.maxYear; y++) {
+            long from = yearMonthKey(y, month);
+            result.addAll(partition.slice(items, from, from + 1));
+        }
+        return result;
+    }
+
+    /**
+     * 자정에 오늘 날짜 뷰 미리 생성 (첫 요청이 상태 계산을 떠안지 않도록)
+     */
+    @Scheduled(cron = "${competition.status-refresh-cron:0 0 0 * * *}")
+    public void refreshStatuses() {
+        viewFor(LocalDate.now());
+    }
+
+    /**
+     * 파일이 바뀌었으면 다시 적재
+     */
+    @Scheduled(fixedDelayString = "${competition.reload-check-interval-ms:5000}")
+    public synchronized void reloadIfModified() {
+        Resource resource = resourceLoader.getResource(properties.getCatalogLocation());
+        long stamp = lastModified(resource);
+        if (stamp == loadedStamp) {
+            return;
+        }
+        // 실패해도 같은 파일을 주기마다 다시 파싱하지 않도록 시각은 기록
+        loadedStamp = stamp;
+        try {
+            snapshot = stamp == MISSING ? Snapshot.EMPTY : Snapshot.of(read(resource));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Competition catalog load failed, keeping previous: location={}",
+                    properties.getCatalogLocation(), e);
+            return;
+        }
+        jsonResponseCache.invalidate(JsonResponseCache.Group.COMPETITIONS);
+        log.info("Competition catalog loaded: location={}, size={}",
+                properties.getCatalogLocation(), snapshot.all.entries.size());
+    }
+
+    /**
+     * 날짜별 뷰 조회 (스냅샷/날짜가 바뀌었으면 다시 생성)
+     * - 자정 직전 요청처럼 현재 뷰보다 과거 날짜면 생성만 하고 교체하지 않음
+     */
+    private View viewFor(LocalDate today) {
+        Snapshot currentSnapshot = snapshot;
+        View current = view;
+        if (current != null && current.snapshot == currentSnapshot && current.day.equals(today)) {
+            return current;
+        }
+        View next = View.of(currentSnapshot, today, current);
+        if (current == null || current.snapshot != currentSnapshot || today.isAfter(current.day)) {
+            view = next;
+        }
+        return next;
+    }
+
+    private List<Entry> read(Resource resource) throws IOException {
+        List<CompetitionDataDto> data;
+        try (InputStream inputStream = resource.getInputStream()) {
+            data = objectMapper.readValue(inputStream, new TypeReference<List<CompetitionDataDto>>() {});
+        }
+        List<Entry> entries = new ArrayList<>(data.size());
+        for (CompetitionDataDto item : data) {
+            entries.add(Entry.from(item));
+        }
+        return entries;
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.exists() ? resource.lastModified() : MISSING;
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+
+    private static long yearMonthKey(int year, int month) {
+        return (long) year * 12 + (month - 1);
+    }
+
+    /**
+     * 파싱된 대회 항목
+     */
+    private record Entry(
+            CompetitionType type,
+            String name,
+            LocalDate eventDate,
+            LocalDate endDate,
+            LocalTime startTime,
+            LocalTime endTime,
+            String location,
+            LocalDate ongoingFrom,
+            LocalDate completedFrom
+    ) {
+        private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::eventDate)
+                .thenComparing(Entry::startTime, Comparator.nullsLast(Comparator.naturalOrder()));
+
+        static Entry from(CompetitionDataDto data) {
+            LocalDate eventDate = LocalDate.parse(data.getEventDateStr(), DATE_FORMATTER);
+            LocalDate endDate = data.getEndDateStr() != null ? LocalDate.parse(data.getEndDateStr(), DATE_FORMATTER) : null;
+            return new Entry(
+                    data.getType(),
+                    data.getName(),
+                    eventDate,
+                    endDate,
+                    data.getStartTimeStr() != null ? LocalTime.parse(data.getStartTimeStr(), TIME_FORMATTER) : null,
+                    data.getEndTimeStr() != null ? LocalTime.parse(data.getEndTimeStr(), TIME_FORMATTER) : null,
+                    data.getLocation(),
+                    eventDate,
+                    (endDate != null ? endDate : eventDate).plusDays(1)
+            );
+        }
+
+        /**
+         * today 기준 상태
+         * - 시작일 전: UPCOMING, 시작일~종료일(없으면 시작일 당일): ONGOING, 이후: COMPLETED
+         */
+        CompetitionStatus statusOn(LocalDate today) {
+            if (today.isBefore(ongoingFrom)) {
+                return CompetitionStatus.UPCOMING;
+            }
+            return today.isBefore(completedFrom) ? CompetitionStatus.ONGOING : CompetitionStatus.COMPLETED;
+        }
+
+        CompetitionListItemDto toListItem(LocalDate today) {
+            return new CompetitionListItemDto(
+                    null, // id는 JSON에서 관리하지 않음
+                    type, name, eventDate, endDate, startTime, endTime, location, statusOn(today));
+        }
+    }
+
+    /**
+     * 정렬된 항목 + 연월 키 (같은 인덱스)
+     */
+    private record Partition(List<Entry> entries, long[] yearMonths) {
+        private static final Partition EMPTY = new Partition(List.of(), new long[0]);
+
+        private static Partition of(List<Entry> sorted) {
+            long[] yearMonths = new long[sorted.size()];
+            for (int i = 0; i < yearMonths.length; i++) {
+                LocalDate eventDate = sorted.get(i).eventDate();
+                yearMonths[i] = yearMonthKey(eventDate.getYear(), eventDate.getMonthValue());
+            }
+            return new Partition(List.copyOf(sorted), yearMonths);
+        }
+
+        // [from, to) 연월 키 구간 (items는 entries와 같은 순서의 배열)
+        private <T> List<T> slice(List<T> items, long from, long to) {
+            return items.subList(lowerBound(from), lowerBound(to));
+        }
+
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = yearMonths.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (yearMonths[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 불변 스냅샷 (교체 단위)
+     */
+    private record Snapshot(Partition all, Map<CompetitionType, Partition> byType, int minYear, int maxYear,
+                            long[] boundaries) {
+        private static final Snapshot EMPTY = new Snapshot(Partition.EMPTY, Map.of(), 0, -1, new long[0]);
+
+        private Partition partition(CompetitionType type) {
+            return type == null ? all : byType.getOrDefault(type, Partition.EMPTY);
+        }
+
+        // today 이하인 전환일 수 (같으면 모든 항목의 상태가 같음)
+        private int statusEpoch(LocalDate today) {
+            long day = today.toEpochDay();
+            int low = 0;
+            int high = boundaries.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (boundaries[mid] <= day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static Snapshot of(List<Entry> entries) {
+            List<Entry> sorted = new ArrayList<>(entries);
+            sorted.sort(Entry.ORDER);
+
+            Map<CompetitionType, List<Entry>> grouped = new EnumMap<>(CompetitionType.class);
+            for (Entry entry : sorted) {
+                if (entry.type() != null) {
+                    grouped.computeIfAbsent(entry.type(), key -> new ArrayList<>()).add(entry);
+                }
+            }
+            Map<CompetitionType, Partition> byType = new EnumMap<>(CompetitionType.class);
+            grouped.forEach((type, list) -> byType.put(type, Partition.of(list)));
+
+            if (sorted.isEmpty()) {
+                return EMPTY;
+            }
+            long[] boundaries = sorted.stream()
+                    .flatMapToLong(entry -> LongStream.of(
+                            entry.ongoingFrom().toEpochDay(), entry.completedFrom().toEpochDay()))
+                    .sorted()
+                    .distinct()
+                    .toArray();
+            return new Snapshot(Partition.of(sorted), byType,
+                    sorted.get(0).eventDate().getYear(), sorted.get(sorted.size() - 1).eventDate().getYear(),
+                    boundaries);
+        }
+    }
+
+    /**
+     * 날짜별 뷰: 상태를 채운 응답 항목 (스냅샷 배열과 같은 순서)
+     */
+    private record View(Snapshot snapshot, LocalDate day, int statusEpoch,
+                        List<CompetitionListItemDto> all, Map<CompetitionType, List<CompetitionListItemDto>> byType) {
+
+        private static View of(Snapshot snapshot, LocalDate day, View previous) {
+            int statusEpoch = snapshot.statusEpoch(day);
+            if (previous != null && previous.snapshot == snapshot && previous.statusEpoch == statusEpoch) {
+                // 전환일을 지나지 않았으면 상태가 같으므로 배열 재사용
+                return new View(snapshot, day, statusEpoch, previous.all, previous.byType);
+            }
+            Map<CompetitionType, List<CompetitionListItemDto>> byType = new EnumMap<>(CompetitionType.class);
+            snapshot.byType.forEach((type, partition) -> byType.put(type, toItems(partition, day)));
+            return new View(snapshot, day, statusEpoch, toItems(snapshot.all, day), byType);
+        }
+
+        private static List<CompetitionListItemDto> toItems(Partition partition, LocalDate day) {
+            return partition.entries.stream().map(entry -> entry.toListItem(day)).toList();
+        }
+
+        private List<CompetitionListItemDto> items(CompetitionType type) {
+            return type == null ? all : byType.getOrDefault(type, List.of());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.kakaotechbootcamp.community.cache;
+
+import com.kakaotechbootcamp.community.common.TransactionHooks;
+import com.kakaotechbootcamp.community.config.CacheProperties;
+import com.kakaotechbootcamp.community.dto.post.PostListItemDto;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록(피드) 페이지 캐시
+ * - 의도: 첫 페이지부터 maxPages 페이지까지 사용자 무관한 목록을 미리 만들어 둔 PostListItemDto로 보관
+ * - 버전: 게시글 생성/수정/삭제 커밋 후 전역 피드 버전 증가, 키에 버전이 포함되어 이전 페이지는 스캔 없이 조회 대상에서 제외
+ *         (이전 버전 항목은 LRU/ttl로 자연 정리)
+ * - 깊이: 첫 페이지(cursor 없음)는 1, 캐시된 페이지의 nextCursor를 다음 깊이로 등록 → 임의 cursor는 캐시하지 않음
+ * - 주의: 항목의 통계/isLiked는 캐시 시점 값이 아님
+ *         · 통계는 ttl 동안 지연될 수 있음 (cache.feed.ttl-seconds)
+ *         · isLiked는 항상 false로 저장되며 요청 시점에 덧씌움
+ */
+@Component
+public class FeedPageCache {
+
+    private final int maxPages;
+    private final AtomicLong version = new AtomicLong();
+    private final LruCache<Key, Page> pages;
+    private final LruCache<Key, Integer> depths;
+
+    public FeedPageCache(CacheProperties cacheProperties) {
+        CacheProperties.Feed spec = cacheProperties.getFeed();
+        this.maxPages = spec.getMaxPages();
+        this.pages = new LruCache<>(spec.getMaxSize(), spec.getTtlSeconds() * 1000L);
+        this.depths = new LruCache<>(spec.getMaxSize(), spec.getTtlSeconds() * 1000L);
+    }
+
+    /**
+     * 현재 피드 버전
+     * - DB 조회 전에 읽어두고 depthOf/get/put에 동일하게 전달
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 페이지 깊이 조회
+     * - 반환: 캐시 대상이면 1..maxPages, 아니면 null
+     */
+    public Integer depthOf(long feedVersion, Integer cursor, int size) {
+        if (maxPages <= 0) {
+            return null;
+        }
+        if (cursor == null) {
+            return 1;
+        }
+        return depths.get(new Key(feedVersion, cursor, size));
+    }
+
+    public Page get(long feedVersion, Integer cursor, int size) {
+        return pages.get(new Key(feedVersion, cursor, size));
+    }
+
+    /**
+     * 페이지 저장
+     * - 조회 중 버전이 바뀌었다면 저장하지 않음
+     * - 다음 페이지가 maxPages 이내면 nextCursor를 캐시 대상으로 등록
+     */
+    public void put(long feedVersion, Integer cursor, int size, int depth, Page page) {
+        if (version.get() != feedVersion) {
+            return;
+        }
+        pages.put(new Key(feedVersion, cursor, size), page);
+        if (page.hasNext() && page.nextCursor() != null && depth < maxPages) {
+            depths.put(new Key(feedVersion, page.nextCursor(), size), depth + 1);
+        }
+    }
+
+    /**
+     * 커밋 후 피드 버전 증가
+     * - 트랜잭션 밖에서 호출되면 즉시 증가
+     */
+    public void bumpVersionAfterCommit() {
+        TransactionHooks.afterCommit(version::incrementAndGet);
+    }
+
+    public void bumpVersion() {
+        version.incrementAndGet();
+    }
+
+    public LruCache.CacheStats stats() {
+        return pages.stats();
+    }
+
+    /**
+     * 캐시된 페이지 (isLiked는 모두 false)
+     */
+    public record Page(List<PostListItemDto> items, Integer nextCursor, boolean hasNext) {}
+
+    private record Key(long version, Integer cursor, int size) {}
+}
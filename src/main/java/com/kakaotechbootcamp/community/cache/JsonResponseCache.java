@@ -0,0 +1,145 @@
+package com.kakaotechbootcamp.community.cache;
+
+import com.kakaotechbootcamp.community.common.Constants;
+import com.kakaotechbootcamp.community.common.TransactionHooks;
+import com.kakaotechbootcamp.community.config.CacheProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 직렬화된 JSON 응답 캐시
+ * - 의도: 비회원 공개 목록 응답의 UTF-8 바이트를 그대로 보관해 Jackson 직렬화 없이 응답
+ * - 대상: Group에 정의된 경로 + 허용 파라미터 조합만 (cursor/search 등은 캐시하지 않음)
+ * - 무효화: 그룹별 세대(generation)를 키에 포함, 도메인 변경 커밋 후 세대 증가
+ *           (이전 세대 항목은 LRU/ttl로 자연 정리)
+ * - 지연: 조회수/좋아요 등 카운터는 ttl 동안 지연될 수 있음 (cache.response.ttl-seconds)
+ * - 대회 목록: 응답이 날짜(대회 상태)와 대회 파일에만 의존하므로 키에 오늘 날짜를 포함하고
+ *             별도 캐시(cache.competition-response)에 길게 보관
+ */
+@Component
+public class JsonResponseCache {
+
+    private final LruCache<Key, CachedResponse> responses;
+    private final LruCache<Key, CachedResponse> competitionResponses;
+    private final Map<Group, AtomicLong> generations = new EnumMap<>(Group.class);
+
+    public JsonResponseCache(CacheProperties cacheProperties) {
+        CacheProperties.Spec spec = cacheProperties.getResponse();
+        this.responses = new LruCache<>(spec.getMaxSize(), spec.getTtlSeconds() * 1000L);
+        CacheProperties.Spec competitionSpec = cacheProperties.getCompetitionResponse();
+        this.competitionResponses = new LruCache<>(competitionSpec.getMaxSize(), competitionSpec.getTtlSeconds() * 1000L);
+        for (Group group : Group.values()) {
+            generations.put(group, new AtomicLong());
+        }
+    }
+
+    /**
+     * 캐시 키 생성
+     * - 반환: 캐시 대상이 아니면 null
+     * - origin: CORS 응답 헤더가 Origin별로 달라 키에 포함
+     */
+    public Key keyOf(String path, Map<String, String[]> parameters, String origin) {
+        Group group = Group.of(path);
+        if (group == null) {
+            return null;
+        }
+        TreeMap<String, String> normalized = new TreeMap<>();
+        for (Map.Entry<String, String[]> entry : parameters.entrySet()) {
+            String[] values = entry.getValue();
+            if (!group.allowedParams.contains(entry.getKey()) || values == null || values.length != 1) {
+                return null;
+            }
+            normalized.put(entry.getKey(), values[0]);
+        }
+        LocalDate day = group.dayScoped ? LocalDate.now() : null;
+        return new Key(group, generations.get(group).get(), normalized.toString(), origin, day);
+    }
+
+    public CachedResponse get(Key key) {
+        return cacheOf(key.group()).get(key);
+    }
+
+    /**
+     * 응답 저장
+     * - 응답 생성 중 세대가 바뀌었다면 저장하지 않음
+     */
+    public void put(Key key, CachedResponse response) {
+        if (generations.get(key.group()).get() != key.generation()) {
+            return;
+        }
+        cacheOf(key.group()).put(key, response);
+    }
+
+    /**
+     * 커밋 후 그룹 세대 증가
+     * - 트랜잭션 밖에서 호출되면 즉시 증가
+     */
+    public void invalidateAfterCommit(Group group) {
+        TransactionHooks.afterCommit(() -> invalidate(group));
+    }
+
+    public void invalidate(Group group) {
+        generations.get(group).incrementAndGet();
+    }
+
+    public LruCache.CacheStats stats() {
+        return responses.stats();
+    }
+
+    public LruCache.CacheStats competitionStats() {
+        return competitionResponses.stats();
+    }
+
+    private LruCache<Key, CachedResponse> cacheOf(Group group) {
+        return group == Group.COMPETITIONS ? competitionResponses : responses;
+    }
+
+    /**
+     * 캐시 그룹 (경로 + 허용 파라미터)
+     * - dayScoped: 응답이 오늘 날짜에 따라 달라져 키에 날짜 포함
+     */
+    public enum Group {
+        POSTS(Constants.ApiPath.POSTS, Set.of("size"), false),
+        PRODUCTS(Constants.ApiPath.PRODUCTS, Set.of("size", "category", "status"), false),
+        COMPETITIONS(Constants.ApiPath.COMPETITIONS, Set.of("year", "month", "type"), true);
+
+        private final String path;
+        private final Set<String> allowedParams;
+        private final boolean dayScoped;
+
+        Group(String path, Set<String> allowedParams, boolean dayScoped) {
+            this.path = path;
+            this.allowedParams = allowedParams;
+            this.dayScoped = dayScoped;
+        }
+
+        private static Group of(String path) {
+            for (Group group : values()) {
+                if (group.path.equals(path)) {
+                    return group;
+                }
+            }
+            return null;
+        }
+    }
+
+    public record Key(Group group, long generation, String query, String origin, LocalDate day) {}
+
+    /**
+     * 캐시된 응답
+     * - headers: 재생할 응답 헤더(CORS/Vary)
+     */
+    public record CachedResponse(byte[] body, String etag, Map<String, List<String>> headers) {
+        public static CachedResponse of(byte[] body, Map<String, List<String>> headers) {
+            return new CachedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", headers);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.kakaotechbootcamp.community.cache;
+
+import com.kakaotechbootcamp.community.common.TransactionHooks;
+import com.kakaotechbootcamp.community.config.CacheProperties;
+import com.kakaotechbootcamp.community.repository.PostLikeRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요 게시글 인덱스
+ * - 의도: 목록/상세의 isLiked 판단을 post_like 조회 대신 메모리 조회로 처리
+ * - 구조: userId → CompactIntSet(좋아요한 postId), 최초 조회 시 PostLikeRepository에서 지연 적재
+ * - 갱신: 좋아요 등록/취소 커밋 후 반영 (onLiked/onUnliked)
+ *         적재 중 발생한 변경은 보류했다가 적재 직후 순서대로 재적용
+ * - 메모리: 전체 추정 바이트가 maxBytes를 넘으면 가장 오래 사용되지 않은 사용자부터 제거
+ * - 만료: ttl 경과 시 다시 적재 (드물게 누락된 변경의 자가 복구)
+ */
+@Component
+public class LikedPostIndex {
+
+    private final PostLikeRepository postLikeRepository;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<Integer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long hits;
+    private long loads;
+    private long evictions;
+
+    public LikedPostIndex(PostLikeRepository postLikeRepository, CacheProperties cacheProperties) {
+        this.postLikeRepository = postLikeRepository;
+        CacheProperties.LikedPosts spec = cacheProperties.getLikedPosts();
+        this.maxBytes = spec.getMaxBytes();
+        this.ttlMillis = spec.getTtlSeconds() * 1000L;
+    }
+
+    public boolean isLiked(Integer userId, Integer postId) {
+        if (userId == null || postId == null) {
+            return false;
+        }
+        Entry entry = loaded(userId);
+        synchronized (entry) {
+            return entry.set.contains(postId);
+        }
+    }
+
+    /**
+     * 여러 게시글 중 좋아요한 게시글 id 조회
+     */
+    public Set<Integer> likedAmong(Integer userId, Collection<Integer> postIds) {
+        Set<Integer> liked = new HashSet<>();
+        if (userId == null || postIds.isEmpty()) {
+            return liked;
+        }
+        Entry entry = loaded(userId);
+        synchronized (entry) {
+            for (Integer postId : postIds) {
+                if (entry.set.contains(postId)) {
+                    liked.add(postId);
+                }
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 커밋 후 좋아요 반영
+     */
+    public void onLikedAfterCommit(Integer userId, Integer postId) {
+        TransactionHooks.afterCommit(() -> apply(userId, postId, true));
+    }
+
+    /**
+     * 커밋 후 좋아요 취소 반영
+     */
+    public void onUnlikedAfterCommit(Integer userId, Integer postId) {
+        TransactionHooks.afterCommit(() -> apply(userId, postId, false));
+    }
+
+    public synchronized Metrics metrics() {
+        return new Metrics(entries.size(), totalBytes, maxBytes, hits, loads, evictions);
+    }
+
+    private void apply(Integer userId, Integer postId, boolean liked) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(userId);
+        }
+        if (entry == null) {
+            return; // 미적재 사용자는 다음 적재 시 DB에서 반영됨
+        }
+        synchronized (entry) {
+            if (entry.set == null) {
+                entry.pending.add(liked ? postId : -postId - 1);
+                return;
+            }
+            applyTo(entry.set, postId, liked);
+            entry.bytes = entry.set.estimatedBytes();
+        }
+        account(userId, entry);
+    }
+
+    private Entry loaded(Integer userId) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(userId);
+            if (entry != null && isExpired(entry, System.currentTimeMillis())) {
+                entries.remove(userId);
+                totalBytes -= entry.countedBytes;
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(userId, entry);
+            } else if (entry.set != null) {
+                hits++;
+                return entry;
+            }
+        }
+
+        // 사용자 단위 적재 (같은 사용자의 동시 요청은 한 번만 조회)
+        synchronized (entry.loadLock) {
+            synchronized (entry) {
+                if (entry.set != null) {
+                    return entry;
+                }
+            }
+            List<Integer> postIds = postLikeRepository.findPostIdsByUserId(userId);
+            CompactIntSet set = CompactIntSet.of(postIds);
+            synchronized (entry) {
+                for (Integer op : entry.pending) {
+                    applyTo(set, op >= 0 ? op : -op - 1, op >= 0);
+                }
+                entry.pending.clear();
+                entry.set = set;
+                entry.loadedAt = System.currentTimeMillis();
+                entry.bytes = set.estimatedBytes();
+            }
+            synchronized (this) {
+                loads++;
+            }
+            account(userId, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * 항목 크기 변화를 totalBytes에 반영 후 상한 초과분 제거
+     * - 적재/변경 도중 만료·제거된 항목(맵의 현재 항목이 아님)은 반영하지 않음
+     *   (totalBytes = 맵에 있는 항목들의 countedBytes 합, 인덱스 락 하에서만 변경)
+     * - 락 순서: 인덱스(this) → 항목(entry)
+     */
+    private synchronized void account(Integer userId, Entry entry) {
+        if (entries.get(userId) != entry) {
+            return;
+        }
+        long bytes;
+        synchronized (entry) {
+            bytes = entry.bytes;
+        }
+        totalBytes += bytes - entry.countedBytes;
+        entry.countedBytes = bytes;
+
+        Iterator<Map.Entry<Integer, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            totalBytes -= eldest.countedBytes;
+            evictions++;
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return entry.set != null && ttlMillis > 0 && now - entry.loadedAt >= ttlMillis;
+    }
+
+    private static void applyTo(CompactIntSet set, int postId, boolean liked) {
+        if (liked) {
+            set.add(postId);
+        } else {
+            set.remove(postId);
+        }
+    }
+
+    /**
+     * 사용자별 항목
+     * - set == null: 적재 전 (pending에 변경 보류, 양수=좋아요, 음수=-(postId+1) 취소)
+     */
+    private static final class Entry {
+        private final Object loadLock = new Object();
+        private final List<Integer> pending = new ArrayList<>();
+        private volatile CompactIntSet set;
+        private volatile long loadedAt;
+        private long bytes;        // 현재 추정 크기 (항목 락)
+        private long countedBytes; // totalBytes에 반영된 크기 (인덱스 락)
+    }
+
+    /**
+     * 인덱스 지표 스냅샷
+     */
+    public record Metrics(
+            int users,         // 적재된 사용자 수
+            long totalBytes,   // 추정 메모리 사용량
+            long maxBytes,     // 메모리 상한
+            long hits,         // 메모리 조회 수
+            long loads,        // DB 적재 수
+            long evictions     // 메모리 상한 초과로 제거된 사용자 수
+    ) {}
+}
@@ -0,0 +1,96 @@
+package com.kakaotechbootcamp.community.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한 LRU 로컬 캐시
+ * - 의도: 외부 의존성 없이 최대 개수/만료 시간 기준으로 메모리 사용량을 제한하는 단순 캐시
+ * - 정책: 최대 개수 초과 시 가장 오래 사용되지 않은 항목 제거, ttl 경과 항목은 조회 시 제거
+ * - 지표: hit/miss/eviction/expiration 누적 수
+ * - 동시성: 모든 연산은 인스턴스 단위 동기화 (연산 자체가 O(1)이라 임계 구역이 짧음)
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    /**
+     * @param maxSize   최대 항목 수
+     * @param ttlMillis 항목 만료 시간(밀리초), 0 이하이면 만료 없음
+     */
+    public LruCache(int maxSize, long ttlMillis) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized CacheStats stats() {
+        long requests = hits + misses;
+        double hitRate = requests == 0 ? 0.0 : (double) hits / requests;
+        return new CacheStats(entries.size(), maxSize, hits, misses, evictions, expirations, hitRate);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * 캐시 지표 스냅샷
+     */
+    public record CacheStats(
+            int size,          // 현재 항목 수
+            int maxSize,       // 최대 항목 수
+            long hits,         // 누적 hit
+            long misses,       // 누적 miss (만료 포함)
+            long evictions,    // 크기 초과로 제거된 수
+            long expirations,  // ttl 만료로 제거된 수
+            double hitRate     // hit / (hit + miss)
+    ) {}
+}
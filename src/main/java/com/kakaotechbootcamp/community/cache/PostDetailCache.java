@@ -0,0 +1,68 @@
+package com.kakaotechbootcamp.community.cache;
+
+import com.kakaotechbootcamp.community.common.TransactionHooks;
+import com.kakaotechbootcamp.community.config.CacheProperties;
+import com.kakaotechbootcamp.community.dto.post.PostDetailSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 상세 캐시
+ * - 의도: 상세 조회의 불변 영역(본문/작성자/이미지/댓글)을 메모리에 보관해 반복 조회 시 DB 왕복 제거
+ * - 제외: 통계/isLiked는 캐시하지 않고 요청마다 덧씌움
+ * - 무효화: 게시글 수정/삭제, 댓글 생성/수정/삭제 커밋 후 해당 postId 제거
+ * - 작성자 닉네임/프로필 변경은 ttl로 반영 (cache.post-detail.ttl-seconds)
+ * - 경쟁 조건: 적재 시작 후 무효화가 발생했다면 적재 결과를 버려 오래된 스냅샷이 남지 않도록 함
+ */
+@Component
+public class PostDetailCache {
+
+    private final LruCache<Integer, PostDetailSnapshot> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PostDetailCache(CacheProperties cacheProperties) {
+        CacheProperties.Spec spec = cacheProperties.getPostDetail();
+        this.cache = new LruCache<>(spec.getMaxSize(), spec.getTtlSeconds() * 1000L);
+    }
+
+    public PostDetailSnapshot get(Integer postId) {
+        return cache.get(postId);
+    }
+
+    /**
+     * 적재 토큰 발급
+     * - DB 조회 전에 받아두고 put 시 전달
+     */
+    public long loadToken() {
+        return invalidations.get();
+    }
+
+    /**
+     * 스냅샷 저장
+     * - 토큰 발급 이후 무효화가 있었다면 저장하지 않음
+     */
+    public void put(Integer postId, PostDetailSnapshot snapshot, long loadToken) {
+        if (invalidations.get() != loadToken) {
+            return;
+        }
+        cache.put(postId, snapshot);
+    }
+
+    /**
+     * 커밋 후 무효화
+     * - 트랜잭션 밖에서 호출되면 즉시 무효화
+     */
+    public void invalidateAfterCommit(Integer postId) {
+        TransactionHooks.afterCommit(() -> invalidate(postId));
+    }
+
+    public void invalidate(Integer postId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(postId);
+    }
+
+    public LruCache.CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -35,6 +35,7 @@ public final class Constants {
         public static final String IMAGES = "/api/images";
         public static final String COMPETITIONS = "/api/competitions";
         public static final String PRODUCTS = "/api/products";
+        public static final String COMMENTS_EXPORT_SUFFIX = "/comments/export"; // /api/posts/{postId}/comments/export (공개 GET 아님)
         private ApiPath() {}
     }
     public static final class PagePath {
@@ -63,13 +64,13 @@ public final class Constants {
         public static final String AUTH_PASSWORD_RESET = "/api/auth/password-reset";
         public static final String USERS_CHECK_EMAIL = "/api/users/check-email";
         public static final String USERS_CHECK_NICKNAME = "/api/users/check-nickname";
-        public static final String IMAGES_PRESIGNED_URL = "/api/images/presigned-url";
+        public static final String IMAGES_PRESIGNED_URL = "/api/images/presigned-url"; // prefix 일치로 /presigned-urls(일괄)도 포함
         public static final String IMAGES_PUBLIC_URL = "/api/images/public-url";
         public static final String ERROR = "/error";
         public static final String POLICY = "/policy";
-        public static final String HEALTH = "/api/health";
+        public static final String HEALTH = "/api/health"; // 정확히 일치할 때만 제외 (/api/health/metrics는 인증 필요)
         
-        // 필터 제외 경로 목록
+        // 필터 제외 경로 목록 (prefix 일치)
         public static final java.util.List<String> FILTER_EXCLUDED = java.util.List.of(
             AUTH_REFRESH,
             AUTH_PASSWORD_RESET,
@@ -78,8 +79,7 @@ public final class Constants {
             IMAGES_PRESIGNED_URL,
             IMAGES_PUBLIC_URL,
             ERROR,
-            POLICY,
-            HEALTH
+            POLICY
         );
         
         private ExcludePath() {}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.client.HttpClientErrorException;
 import com.kakaotechbootcamp.community.exception.BadRequestException;
 import com.kakaotechbootcamp.community.exception.ConflictException;
+import com.kakaotechbootcamp.community.exception.ForbiddenException;
 import com.kakaotechbootcamp.community.exception.NotFoundException;
 
 import java.util.List;
@@ -47,6 +48,13 @@ public class GlobalExceptionHandler {
     }
 
 
+    // 403: 도메인 Forbidden (리소스 소유자 아님)
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ApiResponse<String>> handleDomainForbiddenException(ForbiddenException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.forbidden(e.getMessage()));
+    }
+
     // 404: 도메인 NotFound
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ApiResponse<String>> handleNotFoundException(NotFoundException e) {
@@ -0,0 +1,64 @@
+package com.kakaotechbootcamp.community.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첨부 이미지 목록 diff
+ * - 의도: 이미지 교체 시 전체 삭제/재삽입 대신 필요한 DELETE/INSERT/순서 UPDATE만 산출
+ * - 정책: 같은 objectKey는 기존 행 재사용(중복 키는 앞에서부터 짝지음), 위치가 바뀐 행만 순서 갱신
+ */
+public record ImageListDiff(List<Integer> deletedIds, List<Slot> inserts, List<Slot> reorders) {
+
+    /**
+     * 이미지 한 칸 (imageId는 신규 삽입이면 null)
+     */
+    public record Slot(Integer imageId, String objectKey, int displayOrder) {
+    }
+
+    /**
+     * 기존 목록(displayOrder 순)과 새 objectKey 목록 비교
+     */
+    public static ImageListDiff of(List<Slot> attached, List<String> objectKeys) {
+        Map<String, Deque<Slot>> byKey = new HashMap<>();
+        for (Slot slot : attached) {
+            byKey.computeIfAbsent(slot.objectKey(), k -> new ArrayDeque<>()).addLast(slot);
+        }
+
+        List<Slot> inserts = new ArrayList<>();
+        List<Slot> reorders = new ArrayList<>();
+        for (int i = 0; i < objectKeys.size(); i++) {
+            String key = objectKeys.get(i);
+            Deque<Slot> candidates = byKey.get(key);
+            Slot kept = candidates == null ? null : candidates.pollFirst();
+            if (kept == null) {
+                inserts.add(new Slot(null, key, i));
+            } else if (kept.displayOrder() != i) {
+                reorders.add(new Slot(kept.imageId(), key, i));
+            }
+        }
+
+        List<Integer> deletedIds = new ArrayList<>();
+        for (Deque<Slot> remaining : byKey.values()) {
+            for (Slot slot : remaining) {
+                deletedIds.add(slot.imageId());
+            }
+        }
+        return new ImageListDiff(deletedIds, inserts, reorders);
+    }
+
+    /**
+     * 새로 첨부되는 objectKey (검증 대상)
+     */
+    public List<String> insertedKeys() {
+        return inserts.stream().map(Slot::objectKey).toList();
+    }
+
+    public boolean isEmpty() {
+        return deletedIds.isEmpty() && inserts.isEmpty() && reorders.isEmpty();
+    }
+}
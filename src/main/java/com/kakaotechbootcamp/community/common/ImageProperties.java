@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -29,6 +30,9 @@ public class ImageProperties {
     private String profilePathFormat; // PROFILE 경로 포맷
     private String postPathFormat;    // POST 경로 포맷
 
+    private Variant variant = new Variant(); // 축소본(variant) 생성 설정
+    private ProfileUpload profileUpload = new ProfileUpload(); // 회원가입 프로필 비동기 업로드 설정
+
     public Set<String> getAllowedExtensionSet() {
         Set<String> set = new HashSet<>();
         if (allowedExtensions != null) {
@@ -64,4 +68,33 @@ public class ImageProperties {
         }
         return String.join(", ", allowedExtensions);
     }
+
+    /**
+     * 축소본 생성 설정
+     * - 설정 소스: image.variant.*
+     */
+    @Getter
+    @Setter
+    public static class Variant {
+        private boolean enabled = true;
+        private int thumbnailWidth = 200;   // 목록 썸네일 너비(px)
+        private int mediumWidth = 640;      // 중간 크기 너비(px)
+        private float jpegQuality = 0.8f;   // JPEG 품질 (0~1)
+        private int workerThreads = 2;      // 생성 작업 스레드 수
+        private int queueCapacity = 100;    // 대기 작업 최대 수 (초과분은 건너뜀, 원본으로 대체 제공)
+        private long maxPixels = 16_777_216; // 디코딩 허용 최대 픽셀 수 (너비×높이, 초과분은 건너뜀)
+    }
+
+    /**
+     * 회원가입 프로필 이미지 비동기 업로드 설정
+     * - 설정 소스: image.profile-upload.*
+     */
+    @Getter
+    @Setter
+    public static class ProfileUpload {
+        private int workerThreads = 2;              // 업로드 작업 스레드 수
+        private int maxAttempts = 3;                // 최대 시도 횟수 (첫 시도 포함)
+        private long initialBackoffMillis = 1000;   // 첫 재시도 대기 (이후 2배씩 증가)
+        private String stagingDir = Path.of(System.getProperty("java.io.tmpdir"), "profile-upload").toString(); // 임시 파일 디렉터리 (기동 시 비움)
+    }
 }
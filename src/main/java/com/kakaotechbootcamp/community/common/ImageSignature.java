@@ -0,0 +1,78 @@
+package com.kakaotechbootcamp.community.common;
+
+import java.io.IOException;
+import java.io.PushbackInputStream;
+
+/**
+ * 이미지 파일 시그니처(매직 바이트)
+ * - 의도: 클라이언트가 보낸 Content-Type/파일명 대신 실제 첫 바이트로 형식 판별
+ * - 지원: JPEG, PNG, GIF, WEBP
+ */
+public enum ImageSignature {
+    JPEG("jpg", "image/jpeg"),
+    PNG("png", "image/png"),
+    GIF("gif", "image/gif"),
+    WEBP("webp", "image/webp");
+
+    // 판별에 필요한 최대 바이트 수 (WEBP: "RIFF" + size(4) + "WEBP")
+    public static final int HEADER_LENGTH = 12;
+
+    private final String extension;
+    private final String contentType;
+
+    ImageSignature(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * 스트림 앞부분을 읽어 형식 판별 후 되돌림 (스트림 위치는 그대로)
+     * - 반환: 지원하지 않는 형식이면 null
+     */
+    public static ImageSignature sniff(PushbackInputStream in) throws IOException {
+        byte[] header = new byte[HEADER_LENGTH];
+        int read = in.readNBytes(header, 0, HEADER_LENGTH);
+        if (read > 0) {
+            in.unread(header, 0, read);
+        }
+        return detect(header, read);
+    }
+
+    public static ImageSignature detect(byte[] header, int length) {
+        if (startsWith(header, length, 0xFF, 0xD8, 0xFF)) {
+            return JPEG;
+        }
+        if (startsWith(header, length, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return PNG;
+        }
+        if (startsWith(header, length, 'G', 'I', 'F', '8') && length >= 6
+                && (header[4] == '7' || header[4] == '9') && header[5] == 'a') {
+            return GIF;
+        }
+        if (startsWith(header, length, 'R', 'I', 'F', 'F') && length >= 12
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return WEBP;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int length, int... expected) {
+        if (length < expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((header[i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
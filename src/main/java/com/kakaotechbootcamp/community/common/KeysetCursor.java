@@ -0,0 +1,47 @@
+package com.kakaotechbootcamp.community.common;
+
+import com.kakaotechbootcamp.community.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기반 keyset 페이지네이션 커서
+ * - 의도: OFFSET/COUNT 없이 (created_at, id) 오름차순으로 다음 페이지를 이어서 조회
+ * - 형식: "createdAt|id"의 URL-safe Base64 (클라이언트는 값을 해석하지 않고 그대로 전달)
+ */
+public record KeysetCursor(LocalDateTime createdAt, Integer id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     * - 반환: null 또는 빈 문자열이면 null(첫 페이지)
+     * - 에러: 형식이 올바르지 않으면 400
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new BadRequestException("유효하지 않은 커서입니다");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.kakaotechbootcamp.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 캐시 설정
+ * - 설정 소스: application.yml 의 cache.*
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    private Spec postDetail = new Spec(1000, 300); // 게시글 상세(불변 영역) 캐시
+    private Feed feed = new Feed();                // 게시글 목록 앞쪽 페이지 캐시
+    private Spec response = new Spec(256, 10);     // 비회원 공개 목록 JSON 응답 캐시
+    private Spec competitionResponse = new Spec(64, 86400); // 대회 목록 JSON 응답 캐시 (키에 날짜 포함)
+    private LikedPosts likedPosts = new LikedPosts(); // 사용자별 좋아요 게시글 인덱스
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private int maxSize;     // 최대 항목 수
+        private long ttlSeconds; // 항목 만료 시간(초), 0 이하이면 만료 없음
+
+        public Spec() {}
+
+        public Spec(int maxSize, long ttlSeconds) {
+            this.maxSize = maxSize;
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Feed extends Spec {
+        private int maxPages = 3; // 첫 페이지부터 캐시할 페이지 수
+
+        public Feed() {
+            super(64, 5);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class LikedPosts {
+        private long maxBytes = 32L * 1024 * 1024; // 전체 추정 메모리 상한(바이트)
+        private long ttlSeconds = 600;             // 사용자별 재적재 주기(초), 0 이하이면 만료 없음
+    }
+}
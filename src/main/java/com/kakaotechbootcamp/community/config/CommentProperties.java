@@ -0,0 +1,20 @@
+package com.kakaotechbootcamp.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 설정
+ * - 설정 소스: application.yml 의 comment.*
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comment")
+public class CommentProperties {
+    // 댓글 내보내기 JDBC fetch size (MySQL Connector/J는 Integer.MIN_VALUE일 때 행 단위 스트리밍)
+    private int exportFetchSize = Integer.MIN_VALUE;
+    private int exportFlushRows = 200; // 내보내기 출력 flush 주기(행)
+}
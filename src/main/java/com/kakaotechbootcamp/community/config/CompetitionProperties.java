@@ -0,0 +1,20 @@
+package com.kakaotechbootcamp.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수영대회 목록 설정
+ * - 설정 소스: application.yml 의 competition.*
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "competition")
+public class CompetitionProperties {
+    private String catalogLocation = "classpath:data/competitions.json"; // 대회 목록 JSON 위치 (file: 경로도 가능)
+    private long reloadCheckIntervalMs = 5000; // 파일 변경 확인 주기(밀리초)
+    private String statusRefreshCron = "0 0 0 * * *"; // 오늘 날짜 상태 뷰 미리 생성 주기
+}
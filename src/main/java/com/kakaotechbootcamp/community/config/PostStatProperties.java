@@ -0,0 +1,22 @@
+package com.kakaotechbootcamp.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 통계 설정
+ * - 설정 소스: application.yml 의 post-stat.*
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post-stat")
+public class PostStatProperties {
+    private long flushIntervalMs = 1000; // 누적 카운터 DB 반영 주기(밀리초)
+    private int flushBatchSize = 500;    // UPDATE 1회당 최대 게시글 수
+    private long reconcileIntervalMs = 10000; // 변경된 게시글 통계 재집계 주기(밀리초)
+    private int reconcileBatchSize = 200;     // 재집계 1회(GROUP BY 쿼리)당 게시글 수
+    private int reconcileMaxBatches = 50;     // 재집계 주기 1회당 최대 batch 수
+}
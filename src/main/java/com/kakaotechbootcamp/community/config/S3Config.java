@@ -0,0 +1,71 @@
+package com.kakaotechbootcamp.community.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * S3 클라이언트 설정
+ * - 의도: 요청마다 S3Client/S3Presigner를 생성·종료하지 않고 애플리케이션 수명 동안 재사용
+ * - 커넥션: Apache 커넥션 풀 공유 (TLS 연결 재사용), 최대 커넥션 수는 aws.s3.max-connections
+ * - 자격 증명: DefaultCredentialsProvider 1개를 공유 (조회 결과를 내부 캐시)
+ * - 종료: 컨텍스트 종료 시 close 자동 호출
+ */
+@Configuration
+public class S3Config {
+
+    @Bean
+    public AwsCredentialsProvider awsCredentialsProvider() {
+        return DefaultCredentialsProvider.create();
+    }
+
+    @Bean
+    public SdkHttpClient s3HttpClient(S3Properties s3Properties) {
+        return ApacheHttpClient.builder()
+                .maxConnections(s3Properties.getMaxConnections())
+                .connectionAcquisitionTimeout(Duration.ofMillis(s3Properties.getConnectionAcquisitionTimeoutMillis()))
+                .build();
+    }
+
+    @Bean
+    public S3Client s3Client(S3Properties s3Properties, AwsCredentialsProvider awsCredentialsProvider, SdkHttpClient s3HttpClient) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(s3Properties.getRegion()))
+                .credentialsProvider(awsCredentialsProvider)
+                .httpClient(s3HttpClient)
+                .serviceConfiguration(serviceConfiguration(s3Properties));
+        if (s3Properties.hasEndpoint()) {
+            builder.endpointOverride(URI.create(s3Properties.getEndpoint()));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public S3Presigner s3Presigner(S3Properties s3Properties, AwsCredentialsProvider awsCredentialsProvider) {
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .region(Region.of(s3Properties.getRegion()))
+                .credentialsProvider(awsCredentialsProvider)
+                .serviceConfiguration(serviceConfiguration(s3Properties));
+        if (s3Properties.hasEndpoint()) {
+            builder.endpointOverride(URI.create(s3Properties.getEndpoint()));
+        }
+        return builder.build();
+    }
+
+    private S3Configuration serviceConfiguration(S3Properties s3Properties) {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(s3Properties.isPathStyleAccess())
+                .build();
+    }
+}
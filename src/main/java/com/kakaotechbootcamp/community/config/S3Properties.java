@@ -13,5 +13,14 @@ public class S3Properties {
     private String bucketName;
     private String region;
     private int presignedUrlExpirationMinutes;
-}
+    private String endpoint;                            // S3 호환 엔드포인트 (MinIO/로컬 테스트용, 미설정 시 AWS 기본)
+    private boolean pathStyleAccess = false;            // 경로 방식 URL 사용 (endpoint/bucket/key)
+    private int maxConnections = 50;                    // HTTP 커넥션 풀 최대 커넥션 수
+    private long connectionAcquisitionTimeoutMillis = 2000; // 풀에서 커넥션 획득 대기 최대 시간 (밀리초)
+    private int maxConcurrentUploads = 8;               // 서버 경유 스트리밍 업로드 동시 처리 수 (요청당 메모리 상한 x 동시 수)
+    private long uploadPermitTimeoutMillis = 3000;      // 업로드 슬롯 대기 최대 시간 (초과 시 실패, 백그라운드 업로드는 재시도)
 
+    public boolean hasEndpoint() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+}
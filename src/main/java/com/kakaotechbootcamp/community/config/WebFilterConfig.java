@@ -1,6 +1,8 @@
 package com.kakaotechbootcamp.community.config;
 
 import jakarta.servlet.Filter;
+import com.kakaotechbootcamp.community.common.Constants;
+import com.kakaotechbootcamp.community.filter.JsonResponseCacheFilter;
 import com.kakaotechbootcamp.community.filter.JwtAuthFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
@@ -11,6 +13,7 @@ import org.springframework.context.annotation.Configuration;
 @RequiredArgsConstructor
 public class WebFilterConfig {
     private final JwtAuthFilter jwtAuthFilter;
+    private final JsonResponseCacheFilter jsonResponseCacheFilter;
 
     @Bean
     public FilterRegistrationBean<Filter> jwtFilter() {
@@ -20,4 +23,14 @@ public class WebFilterConfig {
         filterRegistrationBean.setOrder(1);
         return filterRegistrationBean;
     }
+
+    // 비회원 공개 목록 응답 캐시 (JwtAuthFilter 이후 실행)
+    @Bean
+    public FilterRegistrationBean<Filter> jsonResponseCacheFilterRegistration() {
+        FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
+        filterRegistrationBean.setFilter(jsonResponseCacheFilter);
+        filterRegistrationBean.addUrlPatterns(Constants.ApiPath.POSTS, Constants.ApiPath.PRODUCTS, Constants.ApiPath.COMPETITIONS);
+        filterRegistrationBean.setOrder(2);
+        return filterRegistrationBean;
+    }
 }
@@ -1,14 +1,20 @@
 package com.kakaotechbootcamp.community.controller;
 
 import com.kakaotechbootcamp.community.common.ApiResponse;
+import com.kakaotechbootcamp.community.dto.comment.CommentCursorResponseDto;
 import com.kakaotechbootcamp.community.dto.comment.CommentRequestDto;
 import com.kakaotechbootcamp.community.dto.comment.CommentResponseDto;
+import com.kakaotechbootcamp.community.dto.comment.CommentTreeDto;
+import com.kakaotechbootcamp.community.service.CommentExportService;
 import com.kakaotechbootcamp.community.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -21,7 +27,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final CommentService commentService;
+    private final CommentExportService commentExportService;
 
     /**
      * 댓글 목록 페이징 조회 (게시글 기준, 생성일 오름차순)
@@ -36,6 +45,71 @@ public class CommentController {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    /**
+     * 댓글 목록 커서 조회 (게시글 기준, 생성일 오름차순)
+     * - 파라미터: cursor(이전 응답의 nextCursor, 첫 페이지는 빈 값), size
+     * - 응답: items, nextCursor(null이면 끝), hasNext
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CommentCursorResponseDto>> listByPostCursor(
+            @PathVariable Integer postId,
+            @RequestParam("cursor") String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        ApiResponse<CommentCursorResponseDto> response = commentService.listByPostCursor(postId, cursor, size);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    /**
+     * 댓글 트리 조회 (루트 댓글 + 루트별 앞쪽 답글)
+     * - 파라미터: cursor(이전 응답의 nextCursor), size(루트 수, 기본 20), replies(루트별 답글 수, 기본 3)
+     * - 응답: comments(루트 → 답글 순), nextCursor, hasNext, replyCursors
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<ApiResponse<CommentTreeDto>> listTree(
+            @PathVariable Integer postId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "replies", required = false) Integer replies
+    ) {
+        ApiResponse<CommentTreeDto> response = commentService.listTree(postId, cursor, size, replies);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    /**
+     * 답글 이어보기
+     * - 파라미터: cursor(replyCursors 값 또는 이전 응답의 nextCursor), size
+     * - 응답: items, nextCursor(null이면 끝), hasNext
+     */
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<ApiResponse<CommentCursorResponseDto>> listReplies(
+            @PathVariable Integer postId,
+            @PathVariable Integer commentId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        ApiResponse<CommentCursorResponseDto> response = commentService.listReplies(postId, commentId, cursor, size);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    /**
+     * 댓글 전체 내보내기 (NDJSON 스트리밍)
+     * - 의도: 모더레이션 도구용, 전체 댓글을 한 줄에 1건씩 생성일 오름차순으로 전송
+     * - 권한: 로그인 필수(JwtAuthFilter), 게시글 작성자만 (아니면 403)
+     * - 응답: application/x-ndjson, 각 줄은 CommentResponseDto
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Integer postId,
+            @RequestAttribute(value = "userId", required = false) Integer userId
+    ) {
+        StreamingResponseBody body = commentExportService.exportByPost(postId, userId);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"post-" + postId + "-comments.ndjson\"")
+                .body(body);
+    }
+
     /**
      * 댓글 생성
      * - 요청: path postId, param userId, body CommentRequestDto(parentId 선택)
@@ -1,20 +1,59 @@
 package com.kakaotechbootcamp.community.controller;
 
+import com.kakaotechbootcamp.community.cache.FeedPageCache;
+import com.kakaotechbootcamp.community.cache.JsonResponseCache;
+import com.kakaotechbootcamp.community.cache.LikedPostIndex;
+import com.kakaotechbootcamp.community.cache.PostDetailCache;
+import com.kakaotechbootcamp.community.common.ApiResponse;
+import com.kakaotechbootcamp.community.service.PostStatReconciler;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 헬스체크 API 컨트롤러
  * - ALB 헬스체크용 엔드포인트
+ * - 운영 지표(백그라운드 작업 진행/지연) 조회
  */
 @RestController
 @RequestMapping("/api/health")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final PostStatReconciler postStatReconciler;
+    private final PostDetailCache postDetailCache;
+    private final FeedPageCache feedPageCache;
+    private final JsonResponseCache jsonResponseCache;
+    private final LikedPostIndex likedPostIndex;
+
     @GetMapping
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("OK");
     }
+
+    /**
+     * 운영 지표 조회 (인증 필요, JwtAuthFilter는 /api/health만 제외)
+     * - postStatReconciler: 게시글 통계 보정 대기 건수/지연/처리량
+     * - postDetailCache: 게시글 상세 캐시 크기/hit/miss/eviction
+     * - feedPageCache: 게시글 목록 페이지 캐시 크기/hit/miss/eviction
+     * - jsonResponseCache: 비회원 공개 목록 응답 바이트 캐시 크기/hit/miss/eviction
+     * - competitionResponseCache: 대회 목록 응답 바이트 캐시 크기/hit/miss/eviction
+     * - likedPostIndex: 사용자별 좋아요 인덱스 메모리 사용량/적재/eviction
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("postStatReconciler", postStatReconciler.metrics());
+        metrics.put("postDetailCache", postDetailCache.stats());
+        metrics.put("feedPageCache", feedPageCache.stats());
+        metrics.put("jsonResponseCache", jsonResponseCache.stats());
+        metrics.put("competitionResponseCache", jsonResponseCache.competitionStats());
+        metrics.put("likedPostIndex", likedPostIndex.metrics());
+        return ResponseEntity.ok(ApiResponse.success(metrics));
+    }
 }
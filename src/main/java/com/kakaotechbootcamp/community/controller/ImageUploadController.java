@@ -3,6 +3,7 @@ package com.kakaotechbootcamp.community.controller;
 import com.kakaotechbootcamp.community.common.ApiResponse;
 import com.kakaotechbootcamp.community.common.ImageProperties;
 import com.kakaotechbootcamp.community.config.S3Properties;
+import com.kakaotechbootcamp.community.dto.image.PresignedUrlBatchRequestDto;
 import com.kakaotechbootcamp.community.dto.image.PresignedUrlRequestDto;
 import com.kakaotechbootcamp.community.dto.image.PresignedUrlResponseDto;
 import com.kakaotechbootcamp.community.service.ImageUploadService;
@@ -13,6 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.kakaotechbootcamp.community.exception.BadRequestException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,10 +52,7 @@ public class ImageUploadController {
         }
         
         // 확장자 검증
-        String extension = imageProperties.extractExtensionFromContentType(request.contentType());
-        if (extension == null || !imageProperties.getAllowedExtensionSet().contains(extension)) {
-            throw new BadRequestException("지원하지 않는 이미지 형식입니다. (" + imageProperties.getAllowedExtensionsAsString() + "만 가능)");
-        }
+        validateContentType(request.contentType());
         
         // 리소스 존재 검증
         imageUploadService.validateResourceExists(request.imageType(), request.resourceId());
@@ -80,6 +80,48 @@ public class ImageUploadController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Presigned URL 일괄 생성 API
+     * - 의도: 한 리소스의 여러 이미지를 1회 왕복으로 발급 (리소스 검증 1회, 공유 presigner로 순차 서명)
+     * - 요청: { imageType, resourceId, files: [{ filename, contentType }] }
+     * - 응답: [{ presignedUrl, objectKey, publicUrl, expiresIn }] (요청 순서 유지)
+     */
+    @PostMapping("/presigned-urls")
+    public ResponseEntity<ApiResponse<List<PresignedUrlResponseDto>>> generatePresignedUrls(
+            @Valid @RequestBody PresignedUrlBatchRequestDto request
+    ) {
+        List<PresignedUrlBatchRequestDto.FileSpec> files = request.files();
+        if (files.size() > imageProperties.getMaxPerPost()) {
+            throw new BadRequestException("이미지 최대 업로드 개수는 " + imageProperties.getMaxPerPost() + "개 입니다");
+        }
+        for (PresignedUrlBatchRequestDto.FileSpec file : files) {
+            validateContentType(file.contentType());
+        }
+
+        // 리소스 존재 검증 (1회)
+        imageUploadService.validateResourceExists(request.imageType(), request.resourceId());
+
+        List<String> objectKeys = new ArrayList<>(files.size());
+        List<String> contentTypes = new ArrayList<>(files.size());
+        for (PresignedUrlBatchRequestDto.FileSpec file : files) {
+            objectKeys.add(imageUploadService.generateObjectKey(request.imageType(), request.resourceId(), file.filename()));
+            contentTypes.add(file.contentType());
+        }
+        List<String> presignedUrls = s3Service.generatePresignedUrls(objectKeys, contentTypes);
+
+        int expiresIn = s3Properties.getPresignedUrlExpirationMinutes() * 60;
+        List<PresignedUrlResponseDto> response = new ArrayList<>(files.size());
+        for (int i = 0; i < objectKeys.size(); i++) {
+            response.add(PresignedUrlResponseDto.of(
+                    presignedUrls.get(i),
+                    objectKeys.get(i),
+                    s3Service.generatePublicUrl(objectKeys.get(i)),
+                    expiresIn
+            ));
+        }
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * objectKey로 Public URL 조회
      * - 의도: objectKey만 있는 경우 URL 생성
@@ -89,4 +131,12 @@ public class ImageUploadController {
         String publicUrl = s3Service.generatePublicUrl(objectKey);
         return ResponseEntity.ok(ApiResponse.success(Map.of("url", publicUrl)));
     }
+
+    // contentType 기반 확장자 화이트리스트 검증
+    private void validateContentType(String contentType) {
+        String extension = imageProperties.extractExtensionFromContentType(contentType);
+        if (extension == null || !imageProperties.getAllowedExtensionSet().contains(extension)) {
+            throw new BadRequestException("지원하지 않는 이미지 형식입니다. (" + imageProperties.getAllowedExtensionsAsString() + "만 가능)");
+        }
+    }
 }
@@ -2,20 +2,22 @@ package com.kakaotechbootcamp.community.controller;
 
 import com.kakaotechbootcamp.community.common.ApiResponse;
 import com.kakaotechbootcamp.community.common.Constants;
+import com.kakaotechbootcamp.community.dto.post.PostLikeStatusDto;
 import com.kakaotechbootcamp.community.service.PostLikeService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
 
 /**
  * 게시글 좋아요 API 컨트롤러
- * - 의도: 게시글에 대한 좋아요 생성/삭제(멱등) 처리
- * - 경로: /posts/{postId}/likes
+ * - 의도: 게시글에 대한 좋아요 생성/삭제(멱등) 처리, 좋아요 상태 일괄 조회
+ * - 경로: /posts/{postId}/likes, /posts/likes/status
  */
 @RestController
-@RequestMapping("/api/posts/{postId}/likes")
+@RequestMapping("/api/posts")
 @RequiredArgsConstructor
 public class PostLikeController {
 
@@ -27,7 +29,7 @@ public class PostLikeController {
      * - 요청 바디: { "userId": number }
      * - 응답: ApiResponse.created({ likeCount, isLiked })
      */
-    @PostMapping
+    @PostMapping("/{postId}/likes")
     public ResponseEntity<ApiResponse<Map<String, Object>>> saveLike(
             @PathVariable Integer postId,
             @RequestBody Map<String, Integer> body
@@ -42,7 +44,7 @@ public class PostLikeController {
      * - 요청 바디: { "userId": number }
      * - 응답: ApiResponse.deleted({ likeCount, isLiked })
      */
-    @DeleteMapping
+    @DeleteMapping("/{postId}/likes")
     public ResponseEntity<ApiResponse<Map<String, Object>>> removeLike(
             @PathVariable Integer postId,
             @RequestBody Map<String, Integer> body
@@ -50,4 +52,19 @@ public class PostLikeController {
         Map<String, Object> result = likeService.removeLike(body.get(Constants.RequestKey.USER_ID), postId);
         return ResponseEntity.ok(ApiResponse.deleted(result));
     }
+
+    /**
+     * 좋아요 상태 일괄 조회
+     * - 파라미터: ids(쉼표 구분 게시글 ID, 최대 500개)
+     * - 응답: ApiResponse.success({ ids, likedBits(Base64 비트셋), likedCount })
+     * - 비회원: 모두 false
+     */
+    @GetMapping("/likes/status")
+    public ResponseEntity<ApiResponse<PostLikeStatusDto>> likeStatus(
+            @RequestParam("ids") List<Integer> ids,
+            @RequestAttribute(value = "userId", required = false) Integer userId
+    ) {
+        ApiResponse<PostLikeStatusDto> response = ApiResponse.success(likeService.getLikeStatus(userId, ids));
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
 }
@@ -1,6 +1,7 @@
 package com.kakaotechbootcamp.community.controller;
 
 import com.kakaotechbootcamp.community.common.ApiResponse;
+import com.kakaotechbootcamp.community.dto.product.ProductCommentCursorResponseDto;
 import com.kakaotechbootcamp.community.dto.product.ProductCommentRequestDto;
 import com.kakaotechbootcamp.community.dto.product.ProductCommentResponseDto;
 import com.kakaotechbootcamp.community.service.ProductCommentService;
@@ -36,6 +37,21 @@ public class ProductCommentController {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    /**
+     * 상품 댓글 목록 커서 조회 (생성일 오름차순)
+     * - 파라미터: cursor(이전 응답의 nextCursor, 첫 페이지는 빈 값), size
+     * - 응답: items, nextCursor(null이면 끝), hasNext
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<ProductCommentCursorResponseDto>> listByProductCursor(
+            @PathVariable Integer productId,
+            @RequestParam("cursor") String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        ApiResponse<ProductCommentCursorResponseDto> response = productCommentService.listByProductCursor(productId, cursor, size);
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
     /**
      * 상품 댓글 생성
      * - 요청: path productId, param userId, body ProductCommentRequestDto
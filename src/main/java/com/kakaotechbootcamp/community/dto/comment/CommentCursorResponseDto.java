@@ -0,0 +1,13 @@
+package com.kakaotechbootcamp.community.dto.comment;
+
+import java.util.List;
+
+/**
+ * 댓글 목록 응답 DTO (커서 기반 페이지네이션)
+ * - 의도: 전체 개수 없이 items와 다음 커서만 반환
+ */
+public record CommentCursorResponseDto(
+        List<CommentResponseDto> items,
+        String nextCursor,
+        boolean hasNext
+) {}
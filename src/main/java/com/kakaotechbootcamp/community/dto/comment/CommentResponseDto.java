@@ -13,13 +13,32 @@ public record CommentResponseDto(
         UserReferenceDto author,
         Integer parentId
 ) {
+    public static final String DELETED_CONTENT = "삭제된 댓글입니다";
+
     public static CommentResponseDto from(Comment c) {
+        return from(c, UserReferenceDto.from(c.getUser()));
+    }
+
+    // 작성자 정보를 이미 알고 있을 때 (작성자 프록시 초기화 없이 생성)
+    public static CommentResponseDto from(Comment c, UserReferenceDto author) {
         return new CommentResponseDto(
                 c.getId(),
                 c.getContent(),
                 c.getCreatedAt(),
                 c.getUpdatedAt(),
-                UserReferenceDto.from(c.getUser()),
+                author,
+                c.getParentId()
+        );
+    }
+
+    // 삭제됐지만 살아있는 답글이 있는 댓글: 자리만 유지 (내용/작성자 마스킹)
+    public static CommentResponseDto deleted(Comment c) {
+        return new CommentResponseDto(
+                c.getId(),
+                DELETED_CONTENT,
+                c.getCreatedAt(),
+                c.getUpdatedAt(),
+                null,
                 c.getParentId()
         );
     }
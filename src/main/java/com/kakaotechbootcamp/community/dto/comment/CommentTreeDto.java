@@ -0,0 +1,21 @@
+package com.kakaotechbootcamp.community.dto.comment;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 트리 페이지 DTO
+ * - 의도: 루트 댓글 K개와 각 루트의 답글 앞 M개를 평면 목록(루트 → 답글 순)으로 제공
+ * - nextCursor: 다음 루트 페이지 커서 (hasNext=false면 null)
+ * - replyCursors: 답글이 더 있는 루트 댓글 id → 답글 이어보기 커서
+ */
+public record CommentTreeDto(
+        List<CommentResponseDto> comments,
+        String nextCursor,
+        boolean hasNext,
+        Map<Integer, String> replyCursors
+) {
+    public static CommentTreeDto empty() {
+        return new CommentTreeDto(List.of(), null, false, Map.of());
+    }
+}
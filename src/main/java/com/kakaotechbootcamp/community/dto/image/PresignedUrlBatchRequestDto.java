@@ -0,0 +1,30 @@
+package com.kakaotechbootcamp.community.dto.image;
+
+import com.kakaotechbootcamp.community.common.ImageType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+// Presigned URL 일괄 요청 DTO (한 리소스의 여러 파일)
+public record PresignedUrlBatchRequestDto(
+        @NotNull(message = "imageType은 필수입니다")
+        ImageType imageType,
+
+        @NotNull(message = "resourceId는 필수입니다")
+        Integer resourceId,
+
+        @NotEmpty(message = "files는 1개 이상이어야 합니다")
+        List<@Valid @NotNull(message = "파일 정보가 필요합니다") FileSpec> files
+) {
+    public record FileSpec(
+            @NotBlank(message = "filename은 필수입니다")
+            String filename,
+
+            @NotBlank(message = "contentType은 필수입니다")
+            String contentType
+    ) {
+    }
+}
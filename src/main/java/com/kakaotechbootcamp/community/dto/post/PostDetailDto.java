@@ -1,18 +1,20 @@
 package com.kakaotechbootcamp.community.dto.post;
 
 import com.kakaotechbootcamp.community.dto.comment.CommentResponseDto;
+import com.kakaotechbootcamp.community.dto.comment.CommentTreeDto;
 import com.kakaotechbootcamp.community.dto.user.UserReferenceDto;
-import com.kakaotechbootcamp.community.entity.Comment;
 import com.kakaotechbootcamp.community.entity.Post;
 import com.kakaotechbootcamp.community.entity.PostImage;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 게시글 상세 응답 DTO
  * - 의도: 본문/작성자/이미지/통계/댓글 제공
+ * - 댓글: 루트 댓글 첫 페이지 + 루트별 앞쪽 답글 (루트 → 답글 순 평면 목록, parentId로 구분)
+ *         commentsNextCursor로 다음 루트 페이지, replyCursors[루트 id]로 남은 답글 이어보기
  */
 public record PostDetailDto(
         Integer postId,
@@ -24,26 +26,12 @@ public record PostDetailDto(
         List<String> imageObjectKeys,
         PostStatResponseDto stats,
         List<CommentResponseDto> comments,
+        String commentsNextCursor,
+        boolean hasMoreComments,
+        Map<Integer, String> replyCursors,
         boolean isLiked
 ) {
-    public static PostDetailDto from(Post post, List<PostImage> images, PostStatResponseDto stats, List<Comment> comments, boolean isLiked) {
-        List<String> keys = images == null ? Collections.emptyList() : images.stream()
-                .map(PostImage::getObjectKey)
-                .toList();
-        List<CommentResponseDto> commentDtos = comments == null ? Collections.emptyList() : comments.stream()
-                .map(CommentResponseDto::from)
-                .toList();
-        return new PostDetailDto(
-                post.getId(),
-                post.getTitle(),
-                post.getContent(),
-                post.getCreatedAt(),
-                post.getUpdatedAt(),
-                UserReferenceDto.from(post.getUser()),
-                keys,
-                stats,
-                commentDtos,
-                isLiked
-        );
+    public static PostDetailDto from(Post post, List<PostImage> images, PostStatResponseDto stats, CommentTreeDto comments, boolean isLiked) {
+        return PostDetailSnapshot.from(post, images, comments).toDetail(stats, isLiked);
     }
 }
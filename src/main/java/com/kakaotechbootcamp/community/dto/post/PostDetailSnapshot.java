@@ -0,0 +1,70 @@
+package com.kakaotechbootcamp.community.dto.post;
+
+import com.kakaotechbootcamp.community.dto.comment.CommentResponseDto;
+import com.kakaotechbootcamp.community.dto.comment.CommentTreeDto;
+import com.kakaotechbootcamp.community.dto.user.UserReferenceDto;
+import com.kakaotechbootcamp.community.entity.Post;
+import com.kakaotechbootcamp.community.entity.PostImage;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 상세의 불변 영역 스냅샷
+ * - 의도: 본문/작성자/이미지/댓글(트리 첫 페이지)처럼 요청마다 달라지지 않는 부분을 캐시하고,
+ *         통계와 isLiked는 요청 시점에 덧씌워 PostDetailDto로 변환
+ * - 사용처: PostDetailCache, PostService.getDetail
+ */
+public record PostDetailSnapshot(
+        Integer postId,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UserReferenceDto author,
+        List<String> imageObjectKeys,
+        List<CommentResponseDto> comments,
+        String commentsNextCursor,
+        boolean hasMoreComments,
+        Map<Integer, String> replyCursors
+) {
+    public static PostDetailSnapshot from(Post post, List<PostImage> images, CommentTreeDto comments) {
+        List<String> keys = images == null ? Collections.emptyList() : images.stream()
+                .map(PostImage::getObjectKey)
+                .toList();
+        CommentTreeDto tree = comments == null ? CommentTreeDto.empty() : comments;
+        return new PostDetailSnapshot(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCreatedAt(),
+                post.getUpdatedAt(),
+                UserReferenceDto.from(post.getUser()),
+                keys,
+                tree.comments(),
+                tree.nextCursor(),
+                tree.hasNext(),
+                tree.replyCursors()
+        );
+    }
+
+    public PostDetailDto toDetail(PostStatResponseDto stats, boolean isLiked) {
+        return new PostDetailDto(
+                postId,
+                title,
+                content,
+                createdAt,
+                updatedAt,
+                author,
+                imageObjectKeys,
+                stats,
+                comments,
+                commentsNextCursor,
+                hasMoreComments,
+                replyCursors,
+                isLiked
+        );
+    }
+}
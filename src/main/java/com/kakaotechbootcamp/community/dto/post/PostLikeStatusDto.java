@@ -0,0 +1,28 @@
+package com.kakaotechbootcamp.community.dto.post;
+
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 좋아요 상태 일괄 응답 DTO
+ * - 의도: 여러 게시글의 isLiked를 id 목록 + 비트셋으로 압축해 전달
+ * - 인코딩: likedBits는 ids[i]의 좋아요 여부를 i번째 비트로 둔 little-endian 바이트 배열의 Base64
+ *           (바이트 k의 비트 b → 인덱스 8k+b, 뒤쪽의 0 바이트는 생략)
+ */
+public record PostLikeStatusDto(
+        List<Integer> ids,
+        String likedBits,
+        int likedCount
+) {
+    public static PostLikeStatusDto of(List<Integer> ids, Set<Integer> likedPostIds) {
+        BitSet bits = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (likedPostIds.contains(ids.get(i))) {
+                bits.set(i);
+            }
+        }
+        return new PostLikeStatusDto(ids, Base64.getEncoder().encodeToString(bits.toByteArray()), bits.cardinality());
+    }
+}
@@ -32,4 +32,8 @@ public record PostListItemDto(
                 ))
                 .toList();
     }
+
+    public PostListItemDto withLiked(boolean liked) {
+        return liked == isLiked ? this : new PostListItemDto(postId, title, createdAt, author, stats, liked);
+    }
 }
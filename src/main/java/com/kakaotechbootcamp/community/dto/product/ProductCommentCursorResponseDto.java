@@ -0,0 +1,12 @@
+package com.kakaotechbootcamp.community.dto.product;
+
+import java.util.List;
+
+/**
+ * 중고거래 상품 댓글 목록 응답 DTO (커서 기반 페이지네이션)
+ */
+public record ProductCommentCursorResponseDto(
+        List<ProductCommentResponseDto> items,
+        String nextCursor,
+        boolean hasNext
+) {}
@@ -19,6 +19,11 @@ public record ProductCommentResponseDto(
 ) {
 
     public static ProductCommentResponseDto from(ProductComment comment) {
+        return from(comment, UserReferenceDto.from(comment.getUser()));
+    }
+
+    // 작성자 정보를 이미 알고 있을 때 (작성자 프록시 초기화 없이 생성)
+    public static ProductCommentResponseDto from(ProductComment comment, UserReferenceDto author) {
         return new ProductCommentResponseDto(
                 comment.getId(),
                 comment.getParentId(),
@@ -26,7 +31,7 @@ public record ProductCommentResponseDto(
                 comment.getDepth(),
                 comment.getCreatedAt(),
                 comment.getUpdatedAt(),
-                UserReferenceDto.from(comment.getUser())
+                author
         );
     }
 }
@@ -2,6 +2,7 @@ package com.kakaotechbootcamp.community.dto.user;
 
 import com.kakaotechbootcamp.community.dto.image.ImageUploadResponseDto;
 import com.kakaotechbootcamp.community.entity.User;
+import com.kakaotechbootcamp.community.repository.AuthorProjection;
 
 /**
  * 사용자 참조 DTO
@@ -20,4 +21,12 @@ public record UserReferenceDto(
                 ImageUploadResponseDto.of(user.getProfileImageKey())
         );
     }
+
+    public static UserReferenceDto from(AuthorProjection author) {
+        return of(author.getId(), author.getNickname(), author.getProfileImageKey());
+    }
+
+    public static UserReferenceDto of(Integer id, String nickname, String profileImageKey) {
+        return new UserReferenceDto(id, nickname, ImageUploadResponseDto.of(profileImageKey));
+    }
 }
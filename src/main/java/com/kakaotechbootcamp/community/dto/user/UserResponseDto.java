@@ -21,12 +21,18 @@ public class UserResponseDto {
 	private final LocalDateTime createdAt;
 	private final LocalDateTime updatedAt;
 	private final LocalDateTime deletedAt;
+	// 회원가입 프로필 이미지가 아직 업로드 중이면 true (완료 후 profileImageKey 설정)
+	private final boolean profileImagePending;
 
     /**
      * 엔티티 → 응답 DTO 변환
      * - 로직: 필요한 필드만 추출 (엔티티 직접 노출 금지)
      */
     public static UserResponseDto from(User user) {
+        return from(user, false);
+    }
+
+    public static UserResponseDto from(User user, boolean profileImagePending) {
         return new UserResponseDto(
 				user.getId(),
 				user.getEmail(),
@@ -34,7 +40,8 @@ public class UserResponseDto {
 				user.getProfileImageKey(),
 				user.getCreatedAt(),
 				user.getUpdatedAt(),
-				user.getDeletedAt()
+				user.getDeletedAt(),
+				profileImagePending
 		);
 	}
 }
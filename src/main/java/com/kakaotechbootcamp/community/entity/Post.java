@@ -14,7 +14,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        // 목록 조회: deleted_at IS NULL 범위에서 post_id 역순 커서 스캔
+        // (운영 스키마: resources/db/migration/V20261017_3__add_post_list_index.sql)
+        @Index(name = "idx_post_deleted_at_post_id", columnList = "deleted_at, post_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 @SQLRestriction("deleted_at IS NULL")
@@ -33,8 +37,10 @@ public class Post implements SoftDeletable {
     @Column(length = 80, nullable = false)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "LONGTEXT")
-    private String content;
+    // 본문은 별도 테이블(post_content)에서 지연 로딩
+    @OneToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "post_content_id", nullable = false, unique = true)
+    private PostContent body;
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -50,7 +56,15 @@ public class Post implements SoftDeletable {
     public Post(User user, String title, String content) {
         this.user = user;
         this.title = title;
-        this.content = content;
+        this.body = new PostContent(content);
+    }
+
+    /**
+     * 본문 조회
+     * - 주의: 최초 호출 시 post_content 조회 (영속성 컨텍스트 안에서 호출)
+     */
+    public String getContent() {
+        return body.getContent();
     }
 
     // 편의 메서드
@@ -59,7 +73,9 @@ public class Post implements SoftDeletable {
     }
 
     public void updateContent(String content) {
-        this.content = content;
+        this.body.updateContent(content);
+        // 본문만 바뀌어도 post가 변경되도록 표시 (updated_at 갱신)
+        this.updatedAt = LocalDateTime.now();
     }
 
     @Override
@@ -0,0 +1,35 @@
+package com.kakaotechbootcamp.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문
+ * - 의도: LONGTEXT 본문을 post 테이블에서 분리해 존재 확인/소유자 확인/목록 등 본문이 필요 없는 경로에서 읽지 않도록 함
+ * - 로딩: Post.body(@OneToOne LAZY, FK 보유 측)로 연결되어 getContent() 호출 시에만 조회
+ * - 스키마: 기존 데이터 이관은 resources/db/migration/V20261017_1__split_post_content.sql (배포 전 실행)
+ */
+@Entity
+@Getter
+@Table(name = "post_content")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "post_content_id")
+    private Integer id;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String content;
+
+    public PostContent(String content) {
+        this.content = content;
+    }
+
+    public void updateContent(String content) {
+        this.content = content;
+    }
+}
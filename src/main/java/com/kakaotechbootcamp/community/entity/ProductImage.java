@@ -30,9 +30,23 @@ public class ProductImage {
     @Column(name = "display_order")
     private Integer displayOrder;
 
+    // 목록용 축소본 objectKey (image.variant.thumbnail-width, 생성 전이면 null)
+    // - 스키마: resources/db/migration/V20261017_2__add_image_variant_keys.sql (배포 전 실행)
+    @Column(name = "thumbnail_object_key", length = 1024)
+    private String thumbnailObjectKey;
+
+    // 중간 크기 objectKey (image.variant.medium-width, 생성 전이면 null)
+    @Column(name = "medium_object_key", length = 1024)
+    private String mediumObjectKey;
+
     public ProductImage(Product product, String objectKey, Integer displayOrder) {
         this.product = product;
         this.objectKey = objectKey;
         this.displayOrder = displayOrder;
     }
+
+    // 목록 표시용 objectKey (축소본이 없으면 원본)
+    public String getListObjectKey() {
+        return thumbnailObjectKey != null ? thumbnailObjectKey : objectKey;
+    }
 }
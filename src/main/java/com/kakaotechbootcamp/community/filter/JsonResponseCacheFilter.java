@@ -0,0 +1,110 @@
+package com.kakaotechbootcamp.community.filter;
+
+import com.kakaotechbootcamp.community.cache.JsonResponseCache;
+import com.kakaotechbootcamp.community.common.Constants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON 응답 바이트 캐시 필터
+ * - 의도: 비회원 공개 목록 GET 응답을 직렬화된 바이트로 캐시해 컨트롤러/Jackson을 거치지 않고 응답
+ * - 순서: JwtAuthFilter 이후 (userId 속성으로 비회원 여부 판단)
+ * - ETag: 바이트 MD5, If-None-Match 일치 시 304
+ * - CORS: 캐시 hit는 DispatcherServlet을 거치지 않으므로 최초 응답의 CORS/Vary 헤더를 함께 저장해 재생
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonResponseCacheFilter extends OncePerRequestFilter {
+
+    private final JsonResponseCache jsonResponseCache;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !Constants.HttpMethod.GET.equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain chain
+    ) throws IOException, ServletException {
+
+        // 회원 요청은 isLiked 등 사용자별 응답이므로 캐시하지 않음
+        if (request.getAttribute(Constants.RequestAttr.USER_ID) != null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        JsonResponseCache.Key key = jsonResponseCache.keyOf(
+                request.getRequestURI(), request.getParameterMap(), request.getHeader(HttpHeaders.ORIGIN));
+        if (key == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        JsonResponseCache.CachedResponse cached = jsonResponseCache.get(key);
+        if (cached != null) {
+            writeCached(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null && contentType.startsWith(Constants.ContentType.APPLICATION_JSON)) {
+            JsonResponseCache.CachedResponse created =
+                    JsonResponseCache.CachedResponse.of(wrapper.getContentAsByteArray(), replayableHeaders(wrapper));
+            jsonResponseCache.put(key, created);
+            wrapper.setHeader(HttpHeaders.ETAG, created.etag());
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void writeCached(JsonResponseCache.CachedResponse cached, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        cached.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(cached.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(Constants.ContentType.APPLICATION_JSON);
+        response.setCharacterEncoding(Constants.ContentType.UTF8);
+        response.setContentLength(cached.body().length);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(cached.body());
+        out.flush();
+    }
+
+    private Map<String, List<String>> replayableHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (name.regionMatches(true, 0, "Access-Control-", 0, 15) || HttpHeaders.VARY.equalsIgnoreCase(name)) {
+                headers.putIfAbsent(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+}
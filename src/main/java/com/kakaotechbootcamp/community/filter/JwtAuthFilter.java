@@ -46,6 +46,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return true;
         }
         
+        // 헬스체크(ALB)만 제외, 하위 운영 지표 경로는 인증 필요
+        if (path.equals(Constants.ExcludePath.HEALTH)) {
+            return true;
+        }
+        
         // /auth 경로는 POST(로그인), DELETE(로그아웃) 제외
         if (path.equals(Constants.ApiPath.AUTH) && (Constants.HttpMethod.POST.equals(method) || Constants.HttpMethod.DELETE.equals(method))) {
             return true;
@@ -70,12 +75,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         String method = request.getMethod();
         
-        // 공개 GET 요청 경로 목록 (비회원도 접근 가능)
+        // 공개 GET 요청 경로 목록 (비회원도 접근 가능, 댓글 내보내기는 게시글 작성자만)
         boolean isPublicGet = Constants.HttpMethod.GET.equals(method) && (
             path.startsWith(Constants.ApiPath.POSTS) ||
             path.startsWith(Constants.ApiPath.COMPETITIONS) ||
             path.startsWith(Constants.ApiPath.PRODUCTS)
-        );
+        ) && !path.endsWith(Constants.ApiPath.COMMENTS_EXPORT_SUFFIX);
         
         Optional<String> token = extractToken(request);
 
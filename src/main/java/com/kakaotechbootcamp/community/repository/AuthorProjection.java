@@ -0,0 +1,11 @@
+package com.kakaotechbootcamp.community.repository;
+
+/**
+ * 작성자 요약 프로젝션
+ * - 의도: 쓰기 경로에서 엔티티 적재 없이 작성자 응답 정보(id/닉네임/프로필)만 조회
+ */
+public interface AuthorProjection {
+    Integer getId();
+    String getNickname();
+    String getProfileImageKey();
+}
@@ -4,7 +4,10 @@ import com.kakaotechbootcamp.community.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,7 +16,7 @@ import org.springframework.data.domain.Pageable;
  * Comment JPA Repository
  * - 의도: 게시글 기준 댓글 정렬 조회 제공
  */
-public interface CommentRepository extends JpaRepository<Comment, Integer> {
+public interface CommentRepository extends JpaRepository<Comment, Integer>, CommentRepositoryCustom {
     // 게시글 상세/수정 응답용: 작성일 오름차순 정렬 (작성자 미포함)
     List<Comment> findByPostIdOrderByCreatedAtAsc(Integer postId);
 
@@ -24,7 +27,83 @@ public interface CommentRepository extends JpaRepository<Comment, Integer> {
     // 통계 동기화용 카운트
     int countByPostId(Integer postId);
 
+    // 통계 일괄 동기화용: 여러 게시글의 댓글 수 집계 (댓글 없는 게시글은 결과에서 제외)
+    @Query("select c.post.id as postId, count(c) as total from Comment c " +
+           "where c.post.id in :postIds group by c.post.id")
+    List<PostCountProjection> countGroupByPostIds(@Param("postIds") Collection<Integer> postIds);
+
     // 페이징: 게시글 기준 생성일 오름차순
     @EntityGraph(attributePaths = "user") // 작성자 로딩(N+1 방지)
     Page<Comment> findAllByPostId(Integer postId, Pageable pageable);
+
+    // 커서 페이징(첫 페이지): idx_comment_post_created_at 범위 스캔, (created_at, comment_id) 오름차순
+    @Query("select c from Comment c join fetch c.user u where c.post.id = :postId " +
+           "order by c.createdAt asc, c.id asc")
+    List<Comment> findFirstPageByPostId(@Param("postId") Integer postId, Pageable pageable);
+
+    // 커서 페이징(다음 페이지): 커서 (createdAt, id) 이후부터
+    @Query("select c from Comment c join fetch c.user u where c.post.id = :postId " +
+           "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+           "order by c.createdAt asc, c.id asc")
+    List<Comment> findPageByPostIdAfter(@Param("postId") Integer postId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Integer id,
+                                        Pageable pageable);
+
+    // 댓글 트리(루트 페이지): parent_id IS NULL, (created_at, comment_id) 오름차순
+    // - native: @SQLRestriction을 우회해 살아있는 답글이 있는 삭제 루트도 포함 (응답에서 마스킹)
+    // - 살아있는 루트는 작성자도 살아있는 경우만 (기존 join fetch와 동일)
+    // - EXISTS는 r.post_id까지 지정해 idx_comment_post_parent_created_at (post_id, parent_id) 접두사로 탐색
+    String ROOT_PAGE_SELECT = "SELECT c.* FROM comment c JOIN `user` u ON u.user_id = c.user_id " +
+            "WHERE c.post_id = :postId AND c.parent_id IS NULL " +
+            "AND ((c.deleted_at IS NULL AND u.deleted_at IS NULL) " +
+            "  OR (c.deleted_at IS NOT NULL AND EXISTS (SELECT 1 FROM comment r " +
+            "      WHERE r.post_id = :postId AND r.parent_id = c.comment_id AND r.deleted_at IS NULL))) ";
+
+    // 댓글 트리(루트 첫 페이지)
+    @Query(value = ROOT_PAGE_SELECT + "ORDER BY c.created_at ASC, c.comment_id ASC LIMIT :limit", nativeQuery = true)
+    List<Comment> findRootPageByPostId(@Param("postId") Integer postId, @Param("limit") int limit);
+
+    // 댓글 트리(루트 다음 페이지): 커서 (createdAt, id) 이후부터
+    @Query(value = ROOT_PAGE_SELECT +
+                   "AND (c.created_at > :createdAt OR (c.created_at = :createdAt AND c.comment_id > :id)) " +
+                   "ORDER BY c.created_at ASC, c.comment_id ASC LIMIT :limit", nativeQuery = true)
+    List<Comment> findRootPageByPostIdAfter(@Param("postId") Integer postId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Integer id,
+                                            @Param("limit") int limit);
+
+    // 답글 이어보기 대상 확인: 삭제된 루트 댓글 포함
+    @Query(value = "SELECT COUNT(*) FROM comment WHERE comment_id = :commentId AND post_id = :postId", nativeQuery = true)
+    int countByIdAndPostIdIncludingDeleted(@Param("commentId") Integer commentId, @Param("postId") Integer postId);
+
+    // 댓글 트리(답글 미리 읽기): 루트별 앞 limit개 답글 id를 한 번에 조회
+    // - idx_comment_post_parent_created_at (post_id, parent_id, created_at) 범위 스캔 + 윈도 함수
+    @Query(value = "SELECT r.comment_id FROM (" +
+                   "  SELECT c.comment_id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.comment_id) AS rn" +
+                   "  FROM comment c" +
+                   "  WHERE c.post_id = :postId AND c.parent_id IN (:parentIds) AND c.deleted_at IS NULL" +
+                   ") r WHERE r.rn <= :limit", nativeQuery = true)
+    List<Integer> findFirstReplyIds(@Param("postId") Integer postId,
+                                    @Param("parentIds") Collection<Integer> parentIds,
+                                    @Param("limit") int limit);
+
+    // 댓글 트리: id 목록으로 댓글 + 작성자 일괄 조회
+    @Query("select c from Comment c join fetch c.user u where c.id in :ids")
+    List<Comment> findAllWithUserByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 답글 이어보기(첫 페이지): 특정 루트의 답글, (created_at, comment_id) 오름차순
+    @Query("select c from Comment c join fetch c.user u where c.post.id = :postId and c.parentId = :parentId " +
+           "order by c.createdAt asc, c.id asc")
+    List<Comment> findReplyPage(@Param("postId") Integer postId, @Param("parentId") Integer parentId, Pageable pageable);
+
+    // 답글 이어보기(다음 페이지): 커서 (createdAt, id) 이후부터
+    @Query("select c from Comment c join fetch c.user u where c.post.id = :postId and c.parentId = :parentId " +
+           "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+           "order by c.createdAt asc, c.id asc")
+    List<Comment> findReplyPageAfter(@Param("postId") Integer postId,
+                                     @Param("parentId") Integer parentId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Integer id,
+                                     Pageable pageable);
 }
@@ -0,0 +1,18 @@
+package com.kakaotechbootcamp.community.repository;
+
+import com.kakaotechbootcamp.community.entity.Comment;
+
+import java.util.stream.Stream;
+
+/**
+ * Comment 커스텀 Repository
+ * - 의도: JDBC fetch size를 설정값으로 지정해야 하는 스트리밍 조회 제공
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * 게시글 댓글 전체 스트리밍 (작성자 포함, (created_at, comment_id) 오름차순)
+     * - 주의: 트랜잭션 안에서 소비하고 반드시 close
+     */
+    Stream<Comment> streamByPostId(Integer postId, int fetchSize);
+}
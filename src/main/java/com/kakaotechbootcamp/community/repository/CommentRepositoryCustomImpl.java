@@ -0,0 +1,28 @@
+package com.kakaotechbootcamp.community.repository;
+
+import com.kakaotechbootcamp.community.entity.Comment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.AvailableHints;
+
+import java.util.stream.Stream;
+
+/**
+ * CommentRepositoryCustom 구현체
+ */
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Comment> streamByPostId(Integer postId, int fetchSize) {
+        return entityManager.createQuery(
+                        "select c from Comment c join fetch c.user u where c.post.id = :postId " +
+                        "order by c.createdAt asc, c.id asc", Comment.class)
+                .setParameter("postId", postId)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,10 @@
+package com.kakaotechbootcamp.community.repository;
+
+/**
+ * 게시글별 집계 결과 프로젝션
+ * - 의도: COUNT ... GROUP BY post_id 결과를 (postId, total) 형태로 받기 위함
+ */
+public interface PostCountProjection {
+    Integer getPostId();
+    Long getTotal();
+}
@@ -3,6 +3,9 @@ package com.kakaotechbootcamp.community.repository;
 import com.kakaotechbootcamp.community.entity.Post;
 import com.kakaotechbootcamp.community.entity.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,14 +13,27 @@ import java.util.List;
  * PostImage JPA Repository
  * - 의도: 게시글 이미지 정렬 조회 및 일괄 처리 지원
  */
-public interface PostImageRepository extends JpaRepository<PostImage, Integer> {
+public interface PostImageRepository extends JpaRepository<PostImage, Integer>, PostImageRepositoryCustom {
     // 엔티티 레퍼런스가 있는 경우(트랜잭션 내) 정렬 포함 이미지 조회
     List<PostImage> findByPostOrderByDisplayOrderAsc(Post post);
 
     // 아이디만 알고 있는 경우(트랜잭션 경계 밖 또는 캐시/단순 조회) 정렬 포함 이미지 조회
     List<PostImage> findByPostIdOrderByDisplayOrderAsc(Integer postId);
 
-    // 교체/삭제 편의 메서드
-    void deleteByPost(Post post);
-    void deleteByPostId(Integer postId);
+    // 교체/삭제 편의 메서드 (DELETE 1회, 파생 삭제 쿼리의 행별 DELETE 방지)
+    @Modifying
+    @Query("delete from PostImage pi where pi.post.id = :postId")
+    int deleteByPostId(@Param("postId") Integer postId);
+
+    /**
+     * 축소본 objectKey 기록 (생성 완료 후 호출)
+     * - post_id(FK 인덱스)로 게시글 이미지 몇 행만 좁힌 뒤 원본 objectKey 비교 (object_key 전체 스캔 방지)
+     */
+    @Modifying
+    @Query("update PostImage i set i.thumbnailObjectKey = :thumbnailKey, i.mediumObjectKey = :mediumKey " +
+           "where i.post.id = :postId and i.objectKey = :objectKey")
+    int updateVariantKeys(@Param("postId") Integer postId,
+                          @Param("objectKey") String objectKey,
+                          @Param("thumbnailKey") String thumbnailKey,
+                          @Param("mediumKey") String mediumKey);
 }
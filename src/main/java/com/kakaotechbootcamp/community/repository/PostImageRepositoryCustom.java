@@ -0,0 +1,33 @@
+package com.kakaotechbootcamp.community.repository;
+
+import com.kakaotechbootcamp.community.common.ImageListDiff;
+
+import java.util.List;
+
+/**
+ * PostImage 커스텀 Repository
+ * - 의도: IDENTITY 전략으로 JDBC 배치가 꺼지는 saveAll 대신 다중 행 INSERT/UPDATE 1회로 이미지 저장
+ */
+public interface PostImageRepositoryCustom {
+
+    /**
+     * 게시글 이미지 일괄 저장 (displayOrder = index)
+     * - 반환: 저장된 행 수
+     */
+    int insertAll(Integer postId, List<String> objectKeys);
+
+    /**
+     * 지정한 순서로 이미지 일괄 저장 (Slot.imageId는 무시)
+     */
+    int insertSlots(Integer postId, List<ImageListDiff.Slot> slots);
+
+    /**
+     * 이미지 순서 일괄 갱신 (CASE 식 UPDATE 1회)
+     */
+    int updateDisplayOrders(List<ImageListDiff.Slot> slots);
+
+    /**
+     * diff 계산용 현재 이미지 목록 (엔티티 미적재, displayOrder 순)
+     */
+    List<ImageListDiff.Slot> findSlotsByPostId(Integer postId);
+}
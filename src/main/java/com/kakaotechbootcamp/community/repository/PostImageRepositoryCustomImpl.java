@@ -0,0 +1,87 @@
+package com.kakaotechbootcamp.community.repository;
+
+import com.kakaotechbootcamp.community.common.ImageListDiff;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostImageRepositoryCustom 구현체
+ */
+public class PostImageRepositoryCustomImpl implements PostImageRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertAll(Integer postId, List<String> objectKeys) {
+        if (objectKeys == null || objectKeys.isEmpty()) {
+            return 0;
+        }
+        List<ImageListDiff.Slot> slots = new ArrayList<>(objectKeys.size());
+        for (int i = 0; i < objectKeys.size(); i++) {
+            slots.add(new ImageListDiff.Slot(null, objectKeys.get(i), i));
+        }
+        return insertSlots(postId, slots);
+    }
+
+    @Override
+    public int insertSlots(Integer postId, List<ImageListDiff.Slot> slots) {
+        if (slots == null || slots.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(
+                "insert into post_image (post_id, object_key, display_order, created_at) values ");
+        for (int i = 0; i < slots.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:postId, :key").append(i).append(", :order").append(i).append(", :now)");
+        }
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("postId", postId)
+                .setParameter("now", LocalDateTime.now());
+        for (int i = 0; i < slots.size(); i++) {
+            query.setParameter("key" + i, slots.get(i).objectKey());
+            query.setParameter("order" + i, slots.get(i).displayOrder());
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public int updateDisplayOrders(List<ImageListDiff.Slot> slots) {
+        if (slots == null || slots.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("update post_image set display_order = case image_id");
+        List<Integer> ids = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            sql.append(" when :id").append(i).append(" then :order").append(i);
+            ids.add(slots.get(i).imageId());
+        }
+        sql.append(" end where image_id in (:ids)");
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("ids", ids);
+        for (int i = 0; i < slots.size(); i++) {
+            query.setParameter("id" + i, slots.get(i).imageId());
+            query.setParameter("order" + i, slots.get(i).displayOrder());
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public List<ImageListDiff.Slot> findSlotsByPostId(Integer postId) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select i.id, i.objectKey, i.displayOrder from PostImage i " +
+                        "where i.post.id = :postId order by i.displayOrder asc, i.id asc", Object[].class)
+                .setParameter("postId", postId)
+                .getResultList();
+        List<ImageListDiff.Slot> slots = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Integer order = (Integer) row[2];
+            slots.add(new ImageListDiff.Slot((Integer) row[0], (String) row[1], order == null ? -1 : order));
+        }
+        return slots;
+    }
+}
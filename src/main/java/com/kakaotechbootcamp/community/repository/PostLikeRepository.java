@@ -3,7 +3,11 @@ package com.kakaotechbootcamp.community.repository;
 import com.kakaotechbootcamp.community.entity.PostLike;
 import com.kakaotechbootcamp.community.entity.PostLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,12 +21,40 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId>
      */
     int countByIdPostId(Integer postId);
 
+    /**
+     * 통계 일괄 동기화용: 여러 게시글의 좋아요 수를 한 번에 집계 (좋아요 없는 게시글은 결과에서 제외)
+     */
+    @Query("select pl.id.postId as postId, count(pl) as total from PostLike pl " +
+           "where pl.id.postId in :postIds group by pl.id.postId")
+    List<PostCountProjection> countGroupByPostIds(@Param("postIds") Collection<Integer> postIds);
+
     /**
      * 토글 조회용: 특정 게시글에 대한 사용자가 이미 좋아요했는지 여부
      * - EmbeddedId(postId, userId) 기준 경로 사용
      */
     boolean existsByIdPostIdAndIdUserId(Integer postId, Integer userId);
 
+    /**
+     * 좋아요 등록(멱등): 삭제되지 않은 게시글/사용자일 때만 삽입, 이미 존재하면 무시
+     * - 반환: 실제 삽입된 행 수 (0 = 이미 좋아요, 게시글 없음 또는 사용자 없음)
+     * - 동시성: PK(user_id, post_id) 충돌은 INSERT IGNORE로 흡수되어 중복 클릭에도 1건만 삽입
+     * - 사용자도 SELECT 조건으로 거르므로 FK 위반이 IGNORE로 경고 처리되는 경우가 없음 (IGNORE는 중복 키만 흡수)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (user_id, post_id, created_at) " +
+                   "SELECT u.user_id, p.post_id, CURRENT_TIMESTAMP FROM post p JOIN `user` u ON u.user_id = :userId " +
+                   "WHERE p.post_id = :postId AND p.deleted_at IS NULL AND u.deleted_at IS NULL", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Integer userId, @Param("postId") Integer postId);
+
+    /**
+     * 좋아요 취소(멱등): 삭제되지 않은 게시글의 좋아요만 삭제
+     * - 반환: 실제 삭제된 행 수 (0 = 좋아요 없음 또는 게시글 없음)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM post_like WHERE user_id = :userId AND post_id = :postId " +
+                   "AND EXISTS (SELECT 1 FROM post p WHERE p.post_id = :postId AND p.deleted_at IS NULL)", nativeQuery = true)
+    int deleteIfPresent(@Param("userId") Integer userId, @Param("postId") Integer postId);
+
     /**
      * 편의 메서드: postId, userId로 삭제
      * - EmbeddedId(postId, userId) 기준 경로 사용
@@ -33,4 +65,10 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId>
      * 목록 조회용: 특정 사용자가 여러 게시물에 좋아요를 눌렀는지 일괄 조회
      */
     List<PostLike> findByIdPostIdInAndIdUserId(List<Integer> postIds, Integer userId);
+
+    /**
+     * 좋아요 인덱스 적재용: 특정 사용자가 좋아요한 게시글 id 전체 (PK 인덱스 범위 스캔)
+     */
+    @Query("select pl.id.postId from PostLike pl where pl.id.userId = :userId")
+    List<Integer> findPostIdsByUserId(@Param("userId") Integer userId);
 }
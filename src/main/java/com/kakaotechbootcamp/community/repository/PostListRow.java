@@ -0,0 +1,38 @@
+package com.kakaotechbootcamp.community.repository;
+
+import com.kakaotechbootcamp.community.dto.post.PostListItemDto;
+import com.kakaotechbootcamp.community.dto.post.PostStatResponseDto;
+import com.kakaotechbootcamp.community.dto.user.UserReferenceDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 행 DTO 프로젝션
+ * - 의도: 목록에 필요한 컬럼(게시글/작성자/통계)만 한 문장으로 조회, 엔티티/영속성 컨텍스트 미사용
+ * - 사용처: PostRepository 목록 쿼리 (JPQL constructor expression)
+ */
+public record PostListRow(
+        Integer postId,
+        String title,
+        LocalDateTime createdAt,
+        Integer authorId,
+        String authorNickname,
+        String authorProfileImageKey,
+        int likeCount,
+        int commentCount,
+        int viewCount
+) {
+    /**
+     * 목록 아이템 변환 (isLiked는 요청 시점에 덧씌우므로 false)
+     */
+    public PostListItemDto toItem() {
+        return new PostListItemDto(
+                postId,
+                title,
+                createdAt,
+                UserReferenceDto.of(authorId, authorNickname, authorProfileImageKey),
+                new PostStatResponseDto(likeCount, commentCount, viewCount),
+                false
+        );
+    }
+}
@@ -10,20 +10,30 @@ import java.util.List;
 
 /**
  * Post JPA Repository
- * - 의도: 커서 기반 목록 조회 시 작성자 정보까지 함께 로딩하는 쿼리 제공
+ * - 의도: 커서 기반 목록 조회 시 작성자/통계까지 한 문장으로 조회하는 프로젝션 쿼리 제공
  */
 public interface PostRepository extends JpaRepository<Post, Integer> {
 
     /**
-     * 커서 이후 페이지 조회 (id 내림차순)
-     * - 파라미터: cursor 미포함, size(Pageable)
+     * 목록 첫 페이지 (id 내림차순)
+     * - 게시글/작성자/통계 필요한 컬럼만 DTO로 조회 (content 등 미조회)
+     * - 인덱스: idx_post_deleted_at_post_id (deleted_at IS NULL 범위에서 post_id 역순 스캔)
      */
-    @Query("select p from Post p join fetch p.user u where p.id < :cursor order by p.id desc")
-    List<Post> findPageByCursorWithUser(@Param("cursor") Integer cursor, Pageable pageable);
+    @Query("select new com.kakaotechbootcamp.community.repository.PostListRow(" +
+           "p.id, p.title, p.createdAt, u.id, u.nickname, u.profileImageKey, " +
+           "coalesce(s.likeCount, 0), coalesce(s.commentCount, 0), coalesce(s.viewCount, 0)) " +
+           "from Post p join p.user u left join PostStat s on s.id = p.id " +
+           "order by p.id desc")
+    List<PostListRow> findFirstPageRows(Pageable pageable);
 
     /**
-     * 첫 페이지 조회 (id 내림차순)
+     * 목록 커서 이후 페이지 (id 내림차순)
+     * - 파라미터: cursor 미포함, size(Pageable)
      */
-    @Query("select p from Post p join fetch p.user u order by p.id desc")
-    List<Post> findFirstPageWithUser(Pageable pageable);
+    @Query("select new com.kakaotechbootcamp.community.repository.PostListRow(" +
+           "p.id, p.title, p.createdAt, u.id, u.nickname, u.profileImageKey, " +
+           "coalesce(s.likeCount, 0), coalesce(s.commentCount, 0), coalesce(s.viewCount, 0)) " +
+           "from Post p join p.user u left join PostStat s on s.id = p.id " +
+           "where p.id < :cursor order by p.id desc")
+    List<PostListRow> findPageRowsByCursor(@Param("cursor") Integer cursor, Pageable pageable);
 }
@@ -0,0 +1,35 @@
+package com.kakaotechbootcamp.community.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * PostStat 커스텀 Repository
+ * - 의도: 누적된 카운터 증감분을 여러 게시글에 대해 단일 UPDATE로 반영
+ */
+public interface PostStatRepositoryCustom {
+
+    /**
+     * 게시글별 증감분 일괄 반영
+     * - UPDATE ... SET x = x + CASE post_id WHEN .. THEN .. END WHERE post_id IN (..)
+     * - 좋아요/댓글 수는 0 미만으로 내려가지 않음
+     * - 반환: 반영된 행 수
+     */
+    int applyDeltas(Map<Integer, Delta> deltas);
+
+    /**
+     * 게시글별 좋아요/댓글 수 일괄 덮어쓰기 (집계 결과 동기화용)
+     * - 집계 결과에 없는 게시글은 0으로 설정
+     * - 반환: 반영된 행 수
+     */
+    int syncCounts(Collection<Integer> postIds, Map<Integer, Long> likeCounts, Map<Integer, Long> commentCounts);
+
+    /**
+     * 게시글 단위 카운터 증감분
+     */
+    record Delta(int viewCount, int likeCount, int commentCount) {
+        public boolean isEmpty() {
+            return viewCount == 0 && likeCount == 0 && commentCount == 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.kakaotechbootcamp.community.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * PostStatRepositoryCustom 구현체
+ * - 주의: 값은 모두 정수(게시글 ID, 증감분)이므로 SQL에 직접 포함
+ */
+public class PostStatRepositoryCustomImpl implements PostStatRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int applyDeltas(Map<Integer, Delta> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE post_stat SET " +
+                "view_count = view_count + " + caseOf(deltas, Delta::viewCount) + ", " +
+                "like_count = GREATEST(like_count + " + caseOf(deltas, Delta::likeCount) + ", 0), " +
+                "comment_count = GREATEST(comment_count + " + caseOf(deltas, Delta::commentCount) + ", 0) " +
+                "WHERE post_id IN (" + idList(deltas.keySet()) + ")";
+        return entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    @Override
+    public int syncCounts(Collection<Integer> postIds, Map<Integer, Long> likeCounts, Map<Integer, Long> commentCounts) {
+        if (postIds == null || postIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE post_stat SET " +
+                "like_count = " + absoluteCaseOf(likeCounts) + ", " +
+                "comment_count = " + absoluteCaseOf(commentCounts) + " " +
+                "WHERE post_id IN (" + idList(postIds) + ")";
+        return entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    // CASE post_id WHEN {id} THEN {count} ... ELSE 0 END (집계 결과가 없으면 0)
+    private String absoluteCaseOf(Map<Integer, Long> counts) {
+        if (counts == null || counts.isEmpty()) {
+            return "0";
+        }
+        StringBuilder sb = new StringBuilder("CASE post_id");
+        counts.forEach((postId, count) -> sb.append(" WHEN ").append(postId).append(" THEN ").append(count));
+        return sb.append(" ELSE 0 END").toString();
+    }
+
+    private String idList(Collection<Integer> postIds) {
+        StringBuilder sb = new StringBuilder();
+        for (Integer postId : postIds) {
+            if (!sb.isEmpty()) sb.append(',');
+            sb.append(postId);
+        }
+        return sb.toString();
+    }
+
+    // CASE post_id WHEN {id} THEN {delta} ... ELSE 0 END (변경분이 없으면 0)
+    private String caseOf(Map<Integer, Delta> deltas, ToIntFunction<Delta> field) {
+        StringBuilder sb = new StringBuilder("CASE post_id");
+        boolean hasWhen = false;
+        for (Map.Entry<Integer, Delta> entry : deltas.entrySet()) {
+            int value = field.applyAsInt(entry.getValue());
+            if (value != 0) {
+                sb.append(" WHEN ").append(entry.getKey()).append(" THEN ").append(value);
+                hasWhen = true;
+            }
+        }
+        return hasWhen ? sb.append(" ELSE 0 END").toString() : "0";
+    }
+}
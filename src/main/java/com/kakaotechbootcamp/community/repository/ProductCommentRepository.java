@@ -4,8 +4,27 @@ import com.kakaotechbootcamp.community.entity.ProductComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ProductCommentRepository extends JpaRepository<ProductComment, Integer> {
 
     Page<ProductComment> findAllByProductId(Integer productId, Pageable pageable);
+
+    // 커서 페이징(첫 페이지): idx_product_comment_product_created_at 범위 스캔, (created_at, id) 오름차순
+    @Query("select c from ProductComment c join fetch c.user u where c.product.id = :productId " +
+           "order by c.createdAt asc, c.id asc")
+    List<ProductComment> findFirstPageByProductId(@Param("productId") Integer productId, Pageable pageable);
+
+    // 커서 페이징(다음 페이지): 커서 (createdAt, id) 이후부터
+    @Query("select c from ProductComment c join fetch c.user u where c.product.id = :productId " +
+           "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+           "order by c.createdAt asc, c.id asc")
+    List<ProductComment> findPageByProductIdAfter(@Param("productId") Integer productId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Integer id,
+                                                  Pageable pageable);
 }
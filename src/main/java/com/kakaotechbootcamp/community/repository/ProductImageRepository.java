@@ -13,7 +13,7 @@ import java.util.List;
  * ProductImage JPA Repository
  * - 의도: 상품 이미지 정렬 조회 및 일괄 처리 지원
  */
-public interface ProductImageRepository extends JpaRepository<ProductImage, Integer> {
+public interface ProductImageRepository extends JpaRepository<ProductImage, Integer>, ProductImageRepositoryCustom {
 
     /**
      * 엔티티 레퍼런스가 있는 경우(트랜잭션 내) 정렬 포함 이미지 조회
@@ -26,11 +26,11 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Inte
     List<ProductImage> findByProductIdOrderByDisplayOrderAsc(Integer productId);
 
     /**
-     * 상품 ID로 모든 이미지 삭제
+     * 상품 ID로 모든 이미지 삭제 (DELETE 1회)
      */
     @Modifying
     @Query("delete from ProductImage pi where pi.product.id = :productId")
-    void deleteByProductId(@Param("productId") Integer productId);
+    int deleteByProductId(@Param("productId") Integer productId);
 
     /**
      * 여러 상품 ID로 첫 번째 이미지 조회 (썸네일용, 배치 조회)
@@ -45,4 +45,16 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Inte
      * 상품의 모든 이미지 삭제
      */
     void deleteByProduct(Product product);
+
+    /**
+     * 축소본 objectKey 기록 (생성 완료 후 호출)
+     * - product_id(FK 인덱스)로 상품 이미지 몇 행만 좁힌 뒤 원본 objectKey 비교 (object_key 전체 스캔 방지)
+     */
+    @Modifying
+    @Query("update ProductImage i set i.thumbnailObjectKey = :thumbnailKey, i.mediumObjectKey = :mediumKey " +
+           "where i.product.id = :productId and i.objectKey = :objectKey")
+    int updateVariantKeys(@Param("productId") Integer productId,
+                          @Param("objectKey") String objectKey,
+                          @Param("thumbnailKey") String thumbnailKey,
+                          @Param("mediumKey") String mediumKey);
 }
@@ -0,0 +1,85 @@
+package com.kakaotechbootcamp.community.repository;
+
+import com.kakaotechbootcamp.community.common.ImageListDiff;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProductImageRepositoryCustom 구현체
+ */
+public class ProductImageRepositoryCustomImpl implements ProductImageRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertAll(Integer productId, List<String> objectKeys) {
+        if (objectKeys == null || objectKeys.isEmpty()) {
+            return 0;
+        }
+        List<ImageListDiff.Slot> slots = new ArrayList<>(objectKeys.size());
+        for (int i = 0; i < objectKeys.size(); i++) {
+            slots.add(new ImageListDiff.Slot(null, objectKeys.get(i), i));
+        }
+        return insertSlots(productId, slots);
+    }
+
+    @Override
+    public int insertSlots(Integer productId, List<ImageListDiff.Slot> slots) {
+        if (slots == null || slots.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(
+                "insert into product_image (product_id, object_key, display_order) values ");
+        for (int i = 0; i < slots.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:productId, :key").append(i).append(", :order").append(i).append(")");
+        }
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("productId", productId);
+        for (int i = 0; i < slots.size(); i++) {
+            query.setParameter("key" + i, slots.get(i).objectKey());
+            query.setParameter("order" + i, slots.get(i).displayOrder());
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public int updateDisplayOrders(List<ImageListDiff.Slot> slots) {
+        if (slots == null || slots.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("update product_image set display_order = case product_image_id");
+        List<Integer> ids = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            sql.append(" when :id").append(i).append(" then :order").append(i);
+            ids.add(slots.get(i).imageId());
+        }
+        sql.append(" end where product_image_id in (:ids)");
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("ids", ids);
+        for (int i = 0; i < slots.size(); i++) {
+            query.setParameter("id" + i, slots.get(i).imageId());
+            query.setParameter("order" + i, slots.get(i).displayOrder());
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public List<ImageListDiff.Slot> findSlotsByProductId(Integer productId) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select i.id, i.objectKey, i.displayOrder from ProductImage i " +
+                        "where i.product.id = :productId order by i.displayOrder asc, i.id asc", Object[].class)
+                .setParameter("productId", productId)
+                .getResultList();
+        List<ImageListDiff.Slot> slots = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Integer order = (Integer) row[2];
+            slots.add(new ImageListDiff.Slot((Integer) row[0], (String) row[1], order == null ? -1 : order));
+        }
+        return slots;
+    }
+}
@@ -2,6 +2,7 @@ package com.kakaotechbootcamp.community.repository;
 
 import com.kakaotechbootcamp.community.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -40,4 +41,28 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      */
     @Query(value = "SELECT COUNT(*) FROM `user` WHERE nickname = :nickname", nativeQuery = true)
     Long countByNicknameIncludingDeleted(@Param("nickname") String nickname);
+
+    /**
+     * 게시글이 존재할 때 작성자 요약 조회 (게시글/사용자 모두 활성일 때만 결과 존재)
+     * - 사용처: CommentService.create (존재 확인 + 응답용 작성자 정보를 1회로)
+     */
+    @Query("select u.id as id, u.nickname as nickname, u.profileImageKey as profileImageKey " +
+           "from User u, Post p where u.id = :userId and p.id = :postId")
+    Optional<AuthorProjection> findAuthorIfPostExists(@Param("userId") Integer userId, @Param("postId") Integer postId);
+
+    /**
+     * 상품이 존재할 때 작성자 요약 조회 (상품/사용자 모두 활성일 때만 결과 존재)
+     * - 사용처: ProductCommentService.create
+     */
+    @Query("select u.id as id, u.nickname as nickname, u.profileImageKey as profileImageKey " +
+           "from User u, Product p where u.id = :userId and p.id = :productId")
+    Optional<AuthorProjection> findAuthorIfProductExists(@Param("userId") Integer userId, @Param("productId") Integer productId);
+
+    /**
+     * 프로필 이미지 키 설정 (아직 없을 때만)
+     * - 사용처: 회원가입 프로필 비동기 업로드 완료 시 (그 사이 사용자가 직접 설정한 키는 유지)
+     */
+    @Modifying
+    @Query("update User u set u.profileImageKey = :profileImageKey where u.id = :userId and u.profileImageKey is null")
+    int updateProfileImageKeyIfAbsent(@Param("userId") Integer userId, @Param("profileImageKey") String profileImageKey);
 }
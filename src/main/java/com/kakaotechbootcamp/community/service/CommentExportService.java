@@ -0,0 +1,92 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaotechbootcamp.community.config.CommentProperties;
+import com.kakaotechbootcamp.community.dto.comment.CommentResponseDto;
+import com.kakaotechbootcamp.community.entity.Comment;
+import com.kakaotechbootcamp.community.entity.Post;
+import com.kakaotechbootcamp.community.exception.BadRequestException;
+import com.kakaotechbootcamp.community.exception.ForbiddenException;
+import com.kakaotechbootcamp.community.exception.NotFoundException;
+import com.kakaotechbootcamp.community.repository.CommentRepository;
+import com.kakaotechbootcamp.community.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 내보내기 서비스
+ * - 의도: 게시글의 전체 댓글을 NDJSON(한 줄에 댓글 1건)으로 스트리밍
+ * - 메모리: JPA Stream + 전진 전용 fetch size로 행 단위 조회, 출력한 엔티티는 즉시 detach → 댓글 수와 무관하게 일정
+ * - 트랜잭션: 응답 본문은 요청 스레드 밖에서 쓰이므로 StreamingResponseBody 안에서 읽기 전용 트랜잭션을 직접 연다
+ * - 사용처: CommentController (GET /posts/{postId}/comments/export)
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final CommentProperties commentProperties;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 게시글 댓글 NDJSON 내보내기
+     * - 권한: 게시글 작성자만 (삭제된 댓글까지 포함되므로)
+     * - 에러: 게시글 미존재 시 404, 작성자가 아니면 403 (스트리밍 시작 전에 확인)
+     */
+    public StreamingResponseBody exportByPost(Integer postId, Integer userId) {
+        if (postId == null || postId <= 0) {
+            throw new BadRequestException("유효한 게시글 ID가 필요합니다");
+        }
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
+        if (userId == null || !userId.equals(post.getUser().getId())) {
+            throw new ForbiddenException("게시글 작성자만 댓글을 내보낼 수 있습니다");
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return out -> {
+            try {
+                readOnly.executeWithoutResult(status -> write(postId, out));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private void write(Integer postId, OutputStream out) {
+        int flushRows = Math.max(1, commentProperties.getExportFlushRows());
+        int written = 0;
+        try (Stream<Comment> comments = commentRepository.streamByPostId(postId, commentProperties.getExportFetchSize())) {
+            Iterator<Comment> it = comments.iterator();
+            while (it.hasNext()) {
+                Comment comment = it.next();
+                out.write(objectMapper.writeValueAsBytes(CommentResponseDto.from(comment)));
+                out.write(NEWLINE);
+                entityManager.detach(comment.getUser());
+                entityManager.detach(comment);
+                if (++written % flushRows == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.kakaotechbootcamp.community.service;
 
+import com.kakaotechbootcamp.community.cache.PostDetailCache;
 import com.kakaotechbootcamp.community.common.ApiResponse;
+import com.kakaotechbootcamp.community.common.KeysetCursor;
 import com.kakaotechbootcamp.community.dto.comment.*;
 import com.kakaotechbootcamp.community.entity.Comment;
 import com.kakaotechbootcamp.community.entity.Post;
 import com.kakaotechbootcamp.community.entity.User;
 import com.kakaotechbootcamp.community.exception.BadRequestException;
 import com.kakaotechbootcamp.community.exception.NotFoundException;
+import com.kakaotechbootcamp.community.dto.user.UserReferenceDto;
+import com.kakaotechbootcamp.community.repository.AuthorProjection;
 import com.kakaotechbootcamp.community.repository.CommentRepository;
 import com.kakaotechbootcamp.community.repository.PostRepository;
 import com.kakaotechbootcamp.community.repository.UserRepository;
@@ -17,6 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 
 /**
  * 댓글(Comment) 도메인 서비스
@@ -33,6 +38,9 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostStatAsyncService postStatAsyncService;
+    private final PostStatChangeJournal postStatChangeJournal;
+    private final PostDetailCache postDetailCache;
+    private final CommentTreeLoader commentTreeLoader;
 
     /**
      * 댓글 목록 페이징 조회 (게시글 기준)
@@ -61,18 +69,96 @@ public class CommentService {
         return ApiResponse.success(pageResult);
     }
 
+    /**
+     * 댓글 목록 커서 조회 (게시글 기준)
+     * - 의도: (created_at, comment_id) keyset으로 다음 페이지 조회, COUNT/OFFSET 없음
+     * - 파라미터: cursor(null/빈 값이면 첫 페이지), size(기본 10, 최대 20)
+     * - 쿼리: 게시글 존재 확인 1회 + 댓글(작성자 포함) 1회
+     * - 에러: 게시글 미존재 시 404, 커서 형식 오류 시 400
+     */
+    public ApiResponse<CommentCursorResponseDto> listByPostCursor(Integer postId, String cursor, Integer size) {
+        if (postId == null || postId <= 0) {
+            throw new BadRequestException("유효한 게시글 ID가 필요합니다");
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        if (!postRepository.existsById(postId)) {
+            throw new NotFoundException("게시글을 찾을 수 없습니다");
+        }
+        int requested = (size == null || size <= 0) ? 10 : size;
+        int pageSize = Math.min(requested, 20);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> comments = (after == null)
+                ? commentRepository.findFirstPageByPostId(postId, limit)
+                : commentRepository.findPageByPostIdAfter(postId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> page = hasNext ? comments.subList(0, pageSize) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return ApiResponse.success(new CommentCursorResponseDto(
+                page.stream().map(CommentResponseDto::from).toList(), nextCursor, hasNext));
+    }
+
+    /**
+     * 댓글 트리 조회 (게시글 기준)
+     * - 의도: 루트 댓글 페이지 + 루트별 앞쪽 답글을 한 번에 반환 (게시글 상세의 댓글 이어보기)
+     * - 파라미터: cursor(이전 응답의 nextCursor, null/빈 값이면 첫 페이지), size(루트 수), replies(루트별 답글 수)
+     * - 에러: 게시글 미존재 시 404, 커서 형식 오류 시 400
+     */
+    public ApiResponse<CommentTreeDto> listTree(Integer postId, String cursor, Integer size, Integer replies) {
+        if (postId == null || postId <= 0) {
+            throw new BadRequestException("유효한 게시글 ID가 필요합니다");
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        if (!postRepository.existsById(postId)) {
+            throw new NotFoundException("게시글을 찾을 수 없습니다");
+        }
+        return ApiResponse.success(commentTreeLoader.load(postId, after,
+                size == null ? 0 : size, replies == null ? 0 : replies));
+    }
+
+    /**
+     * 답글 이어보기
+     * - 의도: 특정 루트 댓글의 답글을 (created_at, comment_id) 커서로 이어서 조회
+     * - 파라미터: cursor(replyCursors의 값 또는 이전 응답의 nextCursor), size(기본 10, 최대 20)
+     * - 에러: 루트 댓글이 해당 게시글에 없으면 404, 커서 형식 오류 시 400
+     * - 삭제된 루트 댓글의 답글도 조회 가능 (트리에서 마스킹된 자리로 노출되므로)
+     */
+    public ApiResponse<CommentCursorResponseDto> listReplies(Integer postId, Integer commentId, String cursor, Integer size) {
+        if (postId == null || postId <= 0 || commentId == null || commentId <= 0) {
+            throw new BadRequestException("유효한 ID가 필요합니다");
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        if (commentRepository.countByIdAndPostIdIncludingDeleted(commentId, postId) == 0) {
+            throw new NotFoundException("댓글을 찾을 수 없습니다");
+        }
+        return ApiResponse.success(commentTreeLoader.loadReplies(postId, commentId, after, size));
+    }
+
     /**
      * 댓글 생성
      * - 의도: 게시글/사용자 존재 확인 후 댓글 저장, parentId 전달 시 대댓글로 처리
      * - 정책: 내용 공백 불가, 부모는 동일 게시글에 속해야 함, 삭제된 부모 금지, 최대 깊이=2(루트=0, 대댓글=1)
+     * - 쿼리: 존재 확인 프로젝션 1회 + INSERT 1회 (대댓글이면 부모 조회 1회 추가)
      */
     @Transactional
     public ApiResponse<CommentResponseDto> create(Integer postId, Integer userId, CommentRequestDto request) {
         if (postId == null || postId <= 0 || userId == null || userId <= 0) {
             throw new BadRequestException("유효한 ID가 필요합니다");
         }
-        Post post = postRepository.findById(postId).orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
-        User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        // 게시글/사용자 존재 확인 + 응답용 작성자 정보를 1회 조회, 엔티티는 참조(프록시)만 사용
+        AuthorProjection author = userRepository.findAuthorIfPostExists(userId, postId)
+                .orElseThrow(() -> postRepository.existsById(postId)
+                        ? new NotFoundException("사용자를 찾을 수 없습니다")
+                        : new NotFoundException("게시글을 찾을 수 없습니다"));
+        Post post = postRepository.getReferenceById(postId);
+        User user = userRepository.getReferenceById(userId);
 
         if (request == null || request.getContent() == null || request.getContent().isBlank()) {
             throw new BadRequestException("댓글 내용을 입력해주세요");
@@ -100,8 +186,10 @@ public class CommentService {
 
         // 비동기 댓글수 +1
         postStatAsyncService.incrementCommentCount(postId);
+        postStatChangeJournal.record(postId);
+        postDetailCache.invalidateAfterCommit(postId);
 
-        return ApiResponse.created(CommentResponseDto.from(saved));
+        return ApiResponse.created(CommentResponseDto.from(saved, UserReferenceDto.from(author)));
     }
 
     /**
@@ -121,6 +209,7 @@ public class CommentService {
                 .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다"));
         comment.updateContent(content.trim());
         Comment saved = commentRepository.save(comment);
+        postDetailCache.invalidateAfterCommit(comment.getPost().getId());
         return ApiResponse.modified(CommentResponseDto.from(saved));
     }
 
@@ -136,10 +225,12 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다"));
         Integer postId = comment.getPost().getId();
-        comment.updateContent("삭제된 댓글입니다");
+        comment.updateContent(CommentResponseDto.DELETED_CONTENT);
         comment.softDelete();
         // 비동기 댓글수 -1
         postStatAsyncService.decrementCommentCount(postId);
+        postStatChangeJournal.record(postId);
+        postDetailCache.invalidateAfterCommit(postId);
         return ApiResponse.deleted(null);
     }
 }
@@ -0,0 +1,123 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.common.KeysetCursor;
+import com.kakaotechbootcamp.community.dto.comment.CommentCursorResponseDto;
+import com.kakaotechbootcamp.community.dto.comment.CommentResponseDto;
+import com.kakaotechbootcamp.community.dto.comment.CommentTreeDto;
+import com.kakaotechbootcamp.community.entity.Comment;
+import com.kakaotechbootcamp.community.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 트리 로더
+ * - 의도: 게시글 댓글 전체를 적재하지 않고 루트 K개 + 루트별 답글 앞 M개만 조회
+ * - 쿼리: 루트 1회 + 답글 id 윈도 조회 1회 + 답글/살아있는 루트 작성자 일괄 조회 1회
+ * - 삭제된 루트: 살아있는 답글이 있으면 마스킹된 자리(CommentResponseDto.deleted)로 유지
+ * - 이어보기: 루트는 nextCursor, 답글은 루트별 replyCursors (KeysetCursor)
+ * - 사용처: PostService.getDetail/update, CommentService 트리/답글 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentTreeLoader {
+
+    public static final int DEFAULT_ROOT_LIMIT = 20;
+    public static final int DEFAULT_REPLY_LIMIT = 3;
+    private static final int MAX_ROOT_LIMIT = 50;
+    private static final int MAX_REPLY_LIMIT = 20;
+
+    private static final Comparator<Comment> BY_KEYSET =
+            Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId);
+
+    private final CommentRepository commentRepository;
+
+    /**
+     * 루트 페이지 + 답글 미리 읽기
+     * - 파라미터: cursor(null이면 첫 루트 페이지), rootLimit(K), replyLimit(M)
+     */
+    public CommentTreeDto load(Integer postId, KeysetCursor cursor, int rootLimit, int replyLimit) {
+        int roots = clamp(rootLimit, DEFAULT_ROOT_LIMIT, MAX_ROOT_LIMIT);
+        int replies = clamp(replyLimit, DEFAULT_REPLY_LIMIT, MAX_REPLY_LIMIT);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<Comment> rootComments = (cursor == null)
+                ? commentRepository.findRootPageByPostId(postId, roots + 1)
+                : commentRepository.findRootPageByPostIdAfter(postId, cursor.createdAt(), cursor.id(), roots + 1);
+        if (rootComments.isEmpty()) {
+            return CommentTreeDto.empty();
+        }
+
+        boolean hasNext = rootComments.size() > roots;
+        List<Comment> page = hasNext ? rootComments.subList(0, roots) : rootComments;
+        String nextCursor = hasNext ? cursorOf(page.get(page.size() - 1)) : null;
+
+        // 루트별 답글 M+1개 (M+1번째는 이어보기 여부 판단용)
+        Map<Integer, List<Comment>> repliesByRoot = new HashMap<>();
+        List<Integer> rootIds = page.stream().map(Comment::getId).toList();
+        List<Integer> replyIds = commentRepository.findFirstReplyIds(postId, rootIds, replies + 1);
+
+        // 답글 + 살아있는 루트를 작성자와 함께 한 번에 조회 (루트 작성자 프록시는 영속성 컨텍스트에서 초기화)
+        List<Integer> withUserIds = new ArrayList<>(replyIds);
+        page.stream().filter(root -> root.getDeletedAt() == null).forEach(root -> withUserIds.add(root.getId()));
+        if (!withUserIds.isEmpty()) {
+            for (Comment comment : commentRepository.findAllWithUserByIdIn(withUserIds)) {
+                if (comment.getParentId() != null) {
+                    repliesByRoot.computeIfAbsent(comment.getParentId(), id -> new ArrayList<>()).add(comment);
+                }
+            }
+        }
+
+        List<CommentResponseDto> comments = new ArrayList<>(page.size() * (replies + 1));
+        Map<Integer, String> replyCursors = new LinkedHashMap<>();
+        for (Comment root : page) {
+            comments.add(root.getDeletedAt() == null ? CommentResponseDto.from(root) : CommentResponseDto.deleted(root));
+            List<Comment> thread = repliesByRoot.getOrDefault(root.getId(), List.of());
+            thread.sort(BY_KEYSET);
+            boolean moreReplies = thread.size() > replies;
+            List<Comment> shown = moreReplies ? thread.subList(0, replies) : thread;
+            shown.forEach(reply -> comments.add(CommentResponseDto.from(reply)));
+            if (moreReplies) {
+                replyCursors.put(root.getId(), cursorOf(shown.get(shown.size() - 1)));
+            }
+        }
+
+        return new CommentTreeDto(comments, nextCursor, hasNext, replyCursors);
+    }
+
+    /**
+     * 특정 루트 댓글의 답글 이어보기
+     * - 파라미터: cursor(null이면 첫 답글부터), size(기본 10, 최대 20)
+     */
+    public CommentCursorResponseDto loadReplies(Integer postId, Integer parentId, KeysetCursor cursor, Integer size) {
+        int pageSize = clamp(size == null ? 0 : size, 10, 20);
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> replies = (cursor == null)
+                ? commentRepository.findReplyPage(postId, parentId, limit)
+                : commentRepository.findReplyPageAfter(postId, parentId, cursor.createdAt(), cursor.id(), limit);
+
+        boolean hasNext = replies.size() > pageSize;
+        List<Comment> page = hasNext ? replies.subList(0, pageSize) : replies;
+        String nextCursor = hasNext ? cursorOf(page.get(page.size() - 1)) : null;
+
+        return new CommentCursorResponseDto(page.stream().map(CommentResponseDto::from).toList(), nextCursor, hasNext);
+    }
+
+    private static String cursorOf(Comment comment) {
+        return new KeysetCursor(comment.getCreatedAt(), comment.getId()).encode();
+    }
+
+    private static int clamp(int requested, int defaultValue, int max) {
+        return requested <= 0 ? defaultValue : Math.min(requested, max);
+    }
+}
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -80,6 +81,23 @@ public class ImageUploadService {
         }
     }
 
+    // objectKey 일괄 검증 (리소스 존재 확인/경로 prefix 계산은 1회)
+    @Transactional(readOnly = true)
+    public void validateObjectKeys(ImageType imageType, List<String> objectKeys, Integer resourceId) {
+        if (objectKeys == null || objectKeys.stream().allMatch(key -> key == null || key.isBlank())) {
+            return;
+        }
+        validateResourceExists(imageType, resourceId);
+
+        ImageTypeMetadata metadata = getMetadata(imageType);
+        String expectedPrefix = expectedPrefix(imageType, resourceId);
+        for (String objectKey : objectKeys) {
+            if (objectKey != null && !objectKey.isBlank()) {
+                requirePrefix(metadata, objectKey, expectedPrefix);
+            }
+        }
+    }
+
     // 리소스 존재 검증
     public void validateResourceExists(ImageType imageType, Integer resourceId) {
         ImageTypeMetadata metadata = getMetadata(imageType);
@@ -98,10 +116,17 @@ public class ImageUploadService {
 
     // objectKey 경로 규칙 검증
     private void validateObjectKeyPath(ImageType imageType, String objectKey, Integer resourceId) {
-        ImageTypeMetadata metadata = getMetadata(imageType);
-        String expectedPrefix = String.format(getPathFormat(imageType), resourceId, "");
-        
-        if (!objectKey.startsWith(expectedPrefix)) {
+        requirePrefix(getMetadata(imageType), objectKey, expectedPrefix(imageType, resourceId));
+    }
+
+    // 리소스별 objectKey prefix (예: post/1/images/)
+    private String expectedPrefix(ImageType imageType, Integer resourceId) {
+        return String.format(getPathFormat(imageType), resourceId, "");
+    }
+
+    // prefix 일치 검증 (부분 문자열 생성 없이 비교)
+    private void requirePrefix(ImageTypeMetadata metadata, String objectKey, String expectedPrefix) {
+        if (!objectKey.regionMatches(0, expectedPrefix, 0, expectedPrefix.length())) {
             throw new BadRequestException(
                 String.format("%s 이미지 objectKey는 '%s'로 시작해야 합니다", metadata.typeName, expectedPrefix)
             );
@@ -0,0 +1,215 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.common.ImageProperties;
+import com.kakaotechbootcamp.community.common.ImageType;
+import com.kakaotechbootcamp.community.common.TransactionHooks;
+import com.kakaotechbootcamp.community.repository.PostImageRepository;
+import com.kakaotechbootcamp.community.repository.ProductImageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 축소본(variant) 생성 서비스
+ * - 의도: 목록에서 원본(최대 image.max-size-bytes) 대신 작은 JPEG 축소본을 내려주도록 업로드된 objectKey별로 생성/기록
+ * - 생성: 원본 다운로드 → thumbnail-width/medium-width로 축소 → "{원본명}_w{너비}.jpg"로 업로드 → 이미지 행에 키 기록
+ * - 실행: 커밋 이후 고정 크기 작업 풀에서 처리, 대기열이 가득 차면 건너뜀 (목록은 원본으로 대체 제공)
+ * - 원본이 목표 너비 이하이면 원본 키를 그대로 사용
+ * - 제한: presigned PUT은 업로드 크기를 강제하지 않으므로 HEAD로 image.max-size-bytes 초과를,
+ *         디코딩 전 헤더의 너비×높이로 image.variant.max-pixels 초과를 확인해 건너뜀 (원본으로 대체 제공)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final S3Service s3Service;
+    private final PostImageRepository postImageRepository;
+    private final ProductImageRepository productImageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageProperties.Variant variantProperties;
+    private final long maxSourceBytes;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantService(
+            S3Service s3Service,
+            PostImageRepository postImageRepository,
+            ProductImageRepository productImageRepository,
+            TransactionTemplate transactionTemplate,
+            ImageProperties imageProperties) {
+        this.s3Service = s3Service;
+        this.postImageRepository = postImageRepository;
+        this.productImageRepository = productImageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.variantProperties = imageProperties.getVariant();
+        this.maxSourceBytes = imageProperties.getMaxSizeBytes();
+
+        int threads = Math.max(1, variantProperties.getWorkerThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, variantProperties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 커밋 이후 축소본 생성 예약 (게시글/상품 이미지만 대상)
+     * - ownerId: 게시글 ID(POST) 또는 상품 ID(PRODUCT), 키 기록 시 대상 행 범위를 좁히는 데 사용
+     */
+    public void generateAfterCommit(ImageType imageType, Integer ownerId, List<String> objectKeys) {
+        if (!variantProperties.isEnabled() || imageType == ImageType.PROFILE
+                || objectKeys == null || objectKeys.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(objectKeys);
+        TransactionHooks.afterCommit(() -> {
+            for (String objectKey : keys) {
+                submit(imageType, ownerId, objectKey);
+            }
+        });
+    }
+
+    /**
+     * 축소본 생성 및 기록 (작업 풀에서 실행)
+     */
+    void process(ImageType imageType, Integer ownerId, String objectKey) throws IOException {
+        long size = s3Service.getObjectSize(objectKey);
+        if (size > maxSourceBytes) {
+            log.warn("Skip image variant: too large objectKey={}, bytes={}", objectKey, size);
+            return;
+        }
+        BufferedImage original = decode(objectKey, s3Service.downloadBytes(objectKey));
+        if (original == null) {
+            return;
+        }
+        String thumbnailKey = writeVariant(original, objectKey, variantProperties.getThumbnailWidth());
+        String mediumKey = writeVariant(original, objectKey, variantProperties.getMediumWidth());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (imageType == ImageType.POST) {
+                postImageRepository.updateVariantKeys(ownerId, objectKey, thumbnailKey, mediumKey);
+            } else {
+                productImageRepository.updateVariantKeys(ownerId, objectKey, thumbnailKey, mediumKey);
+            }
+        });
+    }
+
+    /**
+     * 축소본 objectKey (같은 경로 prefix 유지)
+     * - 예: post/1/images/a.png → post/1/images/a_w200.jpg
+     */
+    static String variantKey(String objectKey, int width) {
+        int slash = objectKey.lastIndexOf('/');
+        int dot = objectKey.lastIndexOf('.');
+        String base = dot > slash ? objectKey.substring(0, dot) : objectKey;
+        return base + "_w" + width + ".jpg";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(ImageType imageType, Integer ownerId, String objectKey) {
+        try {
+            executor.execute(() -> {
+                try {
+                    process(imageType, ownerId, objectKey);
+                } catch (Exception e) {
+                    log.warn("Image variant generation failed: objectKey={}", objectKey, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Image variant queue full, skipped: objectKey={}", objectKey);
+        }
+    }
+
+    // 헤더의 너비/높이를 먼저 읽어 픽셀 수 상한 확인 후 디코딩, 건너뛰면 null
+    private BufferedImage decode(String objectKey, byte[] bytes) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                // ImageIO 미지원 형식(예: webp)은 원본으로 대체 제공
+                log.debug("Skip image variant: unsupported format objectKey={}", objectKey);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > variantProperties.getMaxPixels()) {
+                    log.warn("Skip image variant: too many pixels objectKey={}, pixels={}", objectKey, pixels);
+                    return null;
+                }
+                return reader.read(0, reader.getDefaultReadParam());
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 목표 너비로 축소 후 업로드, 원본이 더 작으면 원본 키 반환
+    private String writeVariant(BufferedImage original, String objectKey, int width) throws IOException {
+        if (original.getWidth() <= width) {
+            return objectKey;
+        }
+        int height = Math.max(1, Math.round(original.getHeight() * (width / (float) original.getWidth())));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE); // 투명 영역은 흰 배경 (JPEG 알파 미지원)
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        String key = variantKey(objectKey, width);
+        s3Service.uploadBytes(key, encodeJpeg(resized), VARIANT_CONTENT_TYPE);
+        return key;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(variantProperties.getJpegQuality());
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,59 +1,70 @@
 package com.kakaotechbootcamp.community.service;
 
-import com.kakaotechbootcamp.community.entity.PostLike;
-import com.kakaotechbootcamp.community.entity.PostStat;
+import com.kakaotechbootcamp.community.cache.LikedPostIndex;
+import com.kakaotechbootcamp.community.dto.post.PostLikeStatusDto;
+import com.kakaotechbootcamp.community.exception.BadRequestException;
 import com.kakaotechbootcamp.community.exception.NotFoundException;
 import com.kakaotechbootcamp.community.repository.PostLikeRepository;
 import com.kakaotechbootcamp.community.repository.PostRepository;
+import com.kakaotechbootcamp.community.repository.PostStatRepository;
+import com.kakaotechbootcamp.community.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 게시글 좋아요 도메인 서비스
  * - 의도: 게시글에 대한 사용자 좋아요 생성/삭제 처리 및 통계 비동기 반영
- * - 사용처: PostLikeController (POST/DELETE /posts/{postId}/likes)
+ * - 동작: 조회 후 쓰기 대신 INSERT IGNORE / DELETE 단일 문장의 영향 행 수로 변경 여부 판단
+ *         → 중복 클릭 등 동시 요청에도 좋아요 1건, 카운터 증감 1회
+ * - 사용처: PostLikeController (POST/DELETE /posts/{postId}/likes, GET /posts/likes/status)
  */
 @Service
 @RequiredArgsConstructor
 public class PostLikeService {
 
+    static final int MAX_STATUS_IDS = 500;
+
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
+    private final UserRepository userRepository;
+    private final PostStatRepository postStatRepository;
     private final PostStatAsyncService postStatAsyncService;
-    private final PostStatService postStatService;
+    private final PostStatChangeJournal postStatChangeJournal;
+    private final LikedPostIndex likedPostIndex;
 
     /**
      * 좋아요 생성
      * - 의도: 사용자가 게시글에 좋아요 등록, 이미 존재하면 no-op
      * - 파라미터: userId(사용자 ID), postId(게시글 ID)
      * - 반환: likeCount와 isLiked를 포함한 Map
-     * - 동작: PostLike 엔티티 생성 → PostStat 비동기 증가 호출 → 즉시 PostStat에서 likeCount 반환
+     * - 쿼리: 변경 시 INSERT 1회 + like_count 조회 1회 (no-op일 때만 게시글/좋아요(/사용자) 존재 확인 추가)
+     * - 에러: 게시글 또는 사용자 미존재(삭제 포함) 시 404
      */
     @Transactional
     public java.util.Map<String, Object> saveLike(Integer userId, Integer postId) {
-        postRepository.findById(postId)
-                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
-
-        boolean exists = postLikeRepository.existsByIdPostIdAndIdUserId(postId, userId);
-        PostStat stat = postStatService.findByIdOrCreate(postId);
-        int likeCount;
-        boolean isLiked;
-        
-        if (exists) {
-            likeCount = stat.getLikeCount();
-            isLiked = true;
-        } else {
-            postLikeRepository.save(new PostLike(userId, postId));
+        boolean changed = postLikeRepository.insertIfAbsent(userId, postId) > 0;
+        boolean isLiked = true;
+
+        if (changed) {
             postStatAsyncService.incrementLikeCount(postId);
-            likeCount = stat.getLikeCount() + 1;
-            isLiked = true;
+            postStatChangeJournal.record(postId);
+            likedPostIndex.onLikedAfterCommit(userId, postId);
+        } else {
+            requirePost(postId);
+            isLiked = postLikeRepository.existsByIdPostIdAndIdUserId(postId, userId);
+            if (!isLiked) {
+                // 게시글은 있는데 삽입도 기존 좋아요도 없으면 사용자 없음
+                requireUser(userId);
+            }
         }
-        
-        java.util.Map<String, Object> result = new java.util.HashMap<>();
-        result.put("likeCount", likeCount);
-        result.put("isLiked", isLiked);
-        return result;
+
+        return result(currentLikeCount(postId, changed ? 1 : 0), isLiked);
     }
 
     /**
@@ -61,28 +72,73 @@ public class PostLikeService {
      * - 의도: 사용자가 게시글에 좋아요 취소, 아직 없으면 no-op
      * - 파라미터: userId(사용자 ID), postId(게시글 ID)
      * - 반환: likeCount와 isLiked를 포함한 Map
-     * - 동작: PostLike 엔티티 삭제 → PostStat 비동기 감소 호출 → 즉시 PostStat에서 likeCount 반환(0 미만 방지)
+     * - 쿼리: 변경 시 DELETE 1회 + like_count 조회 1회 (no-op일 때만 게시글 존재 확인 추가)
+     * - 에러: 게시글 미존재 시 404
      */
     @Transactional
     public java.util.Map<String, Object> removeLike(Integer userId, Integer postId) {
-        postRepository.findById(postId)
-                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
-
-        boolean exists = postLikeRepository.existsByIdPostIdAndIdUserId(postId, userId);
-        PostStat stat = postStatService.findByIdOrCreate(postId);
-        int likeCount;
-        boolean isLiked;
-        
-        if (!exists) {
-            likeCount = stat.getLikeCount();
-            isLiked = false;
-        } else {
-            postLikeRepository.deleteByIdPostIdAndIdUserId(postId, userId);
+        boolean changed = postLikeRepository.deleteIfPresent(userId, postId) > 0;
+
+        if (changed) {
             postStatAsyncService.decrementLikeCount(postId);
-            likeCount = Math.max(0, stat.getLikeCount() - 1);
-            isLiked = false;
+            postStatChangeJournal.record(postId);
+            likedPostIndex.onUnlikedAfterCommit(userId, postId);
+        } else {
+            requirePost(postId);
+        }
+
+        return result(currentLikeCount(postId, changed ? -1 : 0), false);
+    }
+
+    /**
+     * 좋아요 상태 일괄 조회
+     * - 의도: 무한 스크롤/혼합 피드에서 게시글별 상세 호출 없이 isLiked를 한 번에 확인
+     * - 파라미터: userId(비회원이면 null → 모두 false), postIds(요청 순서 유지, 중복 제거, 최대 500개)
+     * - 쿼리: LikedPostIndex 조회 (사용자 인덱스 미적재 시 PostLikeRepository 1회)
+     * - 에러: id 누락/초과/0 이하 시 400
+     */
+    public PostLikeStatusDto getLikeStatus(Integer userId, List<Integer> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            throw new BadRequestException("조회할 게시글 ID가 필요합니다");
+        }
+        Set<Integer> unique = new LinkedHashSet<>();
+        for (Integer postId : postIds) {
+            if (postId == null || postId <= 0) {
+                throw new BadRequestException("유효한 게시글 ID가 필요합니다");
+            }
+            unique.add(postId);
         }
-        
+        if (unique.size() > MAX_STATUS_IDS) {
+            throw new BadRequestException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_STATUS_IDS + "개 입니다");
+        }
+
+        List<Integer> ids = new ArrayList<>(unique);
+        Set<Integer> liked = likedPostIndex.likedAmong(userId, ids);
+        return PostLikeStatusDto.of(ids, liked);
+    }
+
+    private void requirePost(Integer postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new NotFoundException("게시글을 찾을 수 없습니다");
+        }
+    }
+
+    private void requireUser(Integer userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("사용자를 찾을 수 없습니다");
+        }
+    }
+
+    /**
+     * 현재 좋아요 수
+     * - like_count 컬럼 + 아직 반영되지 않은 누적분 + 이번 요청의 증감 (0 미만 방지)
+     */
+    private int currentLikeCount(Integer postId, int ownDelta) {
+        int stored = postStatRepository.findLikeCountById(postId).orElse(0);
+        return Math.max(0, stored + postStatAsyncService.pendingLikeDelta(postId) + ownDelta);
+    }
+
+    private java.util.Map<String, Object> result(int likeCount, boolean isLiked) {
         java.util.Map<String, Object> result = new java.util.HashMap<>();
         result.put("likeCount", likeCount);
         result.put("isLiked", isLiked);
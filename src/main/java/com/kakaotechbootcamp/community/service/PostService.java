@@ -1,8 +1,14 @@
 package com.kakaotechbootcamp.community.service;
 
+import com.kakaotechbootcamp.community.cache.FeedPageCache;
+import com.kakaotechbootcamp.community.cache.JsonResponseCache;
+import com.kakaotechbootcamp.community.cache.LikedPostIndex;
+import com.kakaotechbootcamp.community.cache.PostDetailCache;
 import com.kakaotechbootcamp.community.common.ApiResponse;
+import com.kakaotechbootcamp.community.common.ImageListDiff;
 import com.kakaotechbootcamp.community.common.ImageType;
 import com.kakaotechbootcamp.community.common.ImageProperties;
+import com.kakaotechbootcamp.community.dto.comment.CommentTreeDto;
 import com.kakaotechbootcamp.community.dto.post.*;
 import com.kakaotechbootcamp.community.entity.*;
 import com.kakaotechbootcamp.community.exception.NotFoundException;
@@ -14,9 +20,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * 게시글(Post) 도메인 서비스
@@ -29,95 +34,112 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final PostImageRepository postImageRepository;
-    private final PostStatRepository postStatRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final CommentRepository commentRepository;
+    private final CommentTreeLoader commentTreeLoader;
     private final UserRepository userRepository;
     private final PostStatAsyncService postStatAsyncService;
     private final PostStatService postStatService;
+    private final PostStatChangeJournal postStatChangeJournal;
+    private final PostDetailCache postDetailCache;
+    private final FeedPageCache feedPageCache;
+    private final JsonResponseCache jsonResponseCache;
+    private final LikedPostIndex likedPostIndex;
     private final ImageUploadService imageUploadService;
+    private final ImageVariantService imageVariantService;
     private final ImageProperties imageProperties;
 
     /**
      * 게시글 목록 조회(커서 기반)
      * - 의도: id 내림차순 커서 페이지네이션
+     * - 캐시: 앞쪽 페이지는 FeedPageCache 사용, isLiked는 LikedPostIndex로 요청 시점에 덧씌움
+     * - 쿼리: 캐시 miss 시 페이지 크기와 무관하게 목록(작성자/통계 포함) 1회, hit 시 0회 (좋아요 인덱스 최초 적재 시 +1)
      * - 반환: items, nextCursor, hasNext
      */
     @Transactional(readOnly = true)
     public ApiResponse<PostResponseDto> list(Integer cursor, Integer size, Integer currentUserId) {
         int requested = (size == null) ? 10 : size;
         int pageSize = requested <= 0 ? 10 : Math.min(requested, 20);
-        Pageable pageable = PageRequest.of(0, pageSize);
-
-        List<Post> posts;
-        if (cursor == null || cursor <= 0) {
-            posts = postRepository.findFirstPageWithUser(pageable);
-        } else {
-            posts = postRepository.findPageByCursorWithUser(cursor, pageable);
+        Integer normalizedCursor = (cursor == null || cursor <= 0) ? null : cursor;
+
+        long feedVersion = feedPageCache.version();
+        Integer depth = feedPageCache.depthOf(feedVersion, normalizedCursor, pageSize);
+        FeedPageCache.Page page = depth == null ? null : feedPageCache.get(feedVersion, normalizedCursor, pageSize);
+        if (page == null) {
+            page = loadPage(normalizedCursor, pageSize);
+            if (depth != null) {
+                feedPageCache.put(feedVersion, normalizedCursor, pageSize, depth, page);
+            }
         }
 
-        List<Integer> postIds = posts.stream().map(Post::getId).toList();
-        Map<Integer, PostStat> postIdToStat = new HashMap<>();
-        if (!postIds.isEmpty()) {
-            postStatRepository.findAllById(postIds).forEach(stat -> postIdToStat.put(stat.getId(), stat));
-            
-            // 각 게시글의 통계를 실제 DB에서 동기화
-            for (Integer postId : postIds) {
-                PostStat stat = postIdToStat.get(postId);
-                if (stat == null) {
-                    continue;
-                }
-                // PostStatService를 통해 통계 동기화 후 Map에 반영
-                PostStat syncedStat = postStatService.syncStatistics(postId);
-                postIdToStat.put(postId, syncedStat);
+        // 좋아요 인덱스 조회 후 덧씌움
+        List<PostListItemDto> items = page.items();
+        if (currentUserId != null && !items.isEmpty()) {
+            List<Integer> postIds = items.stream().map(PostListItemDto::postId).toList();
+            Set<Integer> likedPostIds = likedPostIndex.likedAmong(currentUserId, postIds);
+            if (!likedPostIds.isEmpty()) {
+                items = items.stream()
+                        .map(item -> item.withLiked(likedPostIds.contains(item.postId())))
+                        .toList();
             }
         }
 
-        // 좋아요 일괄 조회
-        Map<Integer, Boolean> postIdToIsLiked = new HashMap<>();
-        if (currentUserId != null && !postIds.isEmpty()) {
-            List<PostLike> likes = postLikeRepository.findByIdPostIdInAndIdUserId(postIds, currentUserId);
-            likes.forEach(like -> postIdToIsLiked.put(like.getId().getPostId(), true));
-        }
+        return ApiResponse.success(new PostResponseDto(items, page.nextCursor(), page.hasNext()));
+    }
 
-        List<PostListItemDto> items = PostListItemDto.from(posts, postIdToStat, postIdToIsLiked);
+    /**
+     * 목록 페이지 조회 (사용자 무관, isLiked=false)
+     * - 게시글/작성자/통계를 DTO 프로젝션 1회로 조회 (엔티티 미적재, content 미조회)
+     * - 통계: 비정규화된 post_stat 카운터를 그대로 사용 (보정은 PostStatReconciler가 백그라운드로 수행)
+     */
+    private FeedPageCache.Page loadPage(Integer cursor, int pageSize) {
+        Pageable pageable = PageRequest.of(0, pageSize);
+
+        List<PostListRow> rows = (cursor == null)
+                ? postRepository.findFirstPageRows(pageable)
+                : postRepository.findPageRowsByCursor(cursor, pageable);
+
+        List<PostListItemDto> items = rows.stream().map(PostListRow::toItem).toList();
         Integer nextCursor = items.isEmpty() ? null : items.get(items.size() - 1).postId();
         boolean hasNext = items.size() == pageSize;
-
-        return ApiResponse.success(new PostResponseDto(items, nextCursor, hasNext));
+        return new FeedPageCache.Page(items, nextCursor, hasNext);
     }
 
     /**
      * 게시글 상세 조회
      * - 의도: 조회수 +1, 이미지/댓글/통계 포함해 반환
+     * - 캐시: 본문/작성자/이미지/댓글은 PostDetailCache 사용, 통계는 요청마다 조회, isLiked는 LikedPostIndex
+     * - 통계: 읽기 시 재집계하지 않고 post_stat 카운터 사용
      * - 에러: 게시글 미존재 시 404
      */
     @Transactional
     public ApiResponse<PostDetailDto> getDetail(Integer postId, Integer currentUserId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
+        PostDetailSnapshot snapshot = postDetailCache.get(postId);
+        if (snapshot == null) {
+            long loadToken = postDetailCache.loadToken();
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
+            List<PostImage> images = postImageRepository.findByPostIdOrderByDisplayOrderAsc(postId);
+            // 댓글: 루트 첫 페이지 + 루트별 앞쪽 답글
+            CommentTreeDto comments = commentTreeLoader.load(postId, null,
+                    CommentTreeLoader.DEFAULT_ROOT_LIMIT, CommentTreeLoader.DEFAULT_REPLY_LIMIT);
+            snapshot = PostDetailSnapshot.from(post, images, comments);
+            postDetailCache.put(postId, snapshot, loadToken);
+        }
 
-        List<PostImage> images = postImageRepository.findByPostIdOrderByDisplayOrderAsc(postId);
         PostStat stat = postStatService.findByIdOrCreate(postId);
 
         // 조회수 증가: 비동기 처리
         postStatAsyncService.incrementViewCount(postId);
 
-        // 댓글 + 작성자
-        List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAscWithUser(postId);
+        // 응답용 통계 (like/comment는 post_stat 카운터 그대로, viewCount는 DB 값 + 1)
+        PostStatResponseDto stats = new PostStatResponseDto(
+                stat.getLikeCount(),
+                stat.getCommentCount(),
+                stat.getViewCount() + 1
+        );
 
-        // 통계 동기화
-        PostStat syncedStat = postStatService.syncStatistics(postId);
-        
-        // 응답용 통계 객체 생성 (viewCount는 DB 값 + 1)
-        PostStat responseStat = new PostStat(post);
-        responseStat.syncLikeCount(syncedStat.getLikeCount());
-        responseStat.syncCommentCount(syncedStat.getCommentCount());
-        responseStat.syncViewCount(stat.getViewCount() + 1);
-        
-        boolean isLiked = (currentUserId != null) && postLikeRepository.existsByIdPostIdAndIdUserId(postId, currentUserId);
+        boolean isLiked = likedPostIndex.isLiked(currentUserId, postId);
 
-        return ApiResponse.success(PostDetailDto.from(post, images, PostStatResponseDto.from(responseStat), comments, isLiked));
+        return ApiResponse.success(snapshot.toDetail(stats, isLiked));
     }
 
     /**
@@ -140,33 +162,30 @@ public class PostService {
             }
             // 이미지 objectKey 검증
             List<String> keys = request.getImageObjectKeys();
-            for (String objectKey : keys) {
-                imageUploadService.validateObjectKey(ImageType.POST, objectKey, saved.getId());
-            }
+            imageUploadService.validateObjectKeys(ImageType.POST, keys, saved.getId());
             
-            List<PostImage> images = new java.util.ArrayList<>();
-            for (int i = 0; i < keys.size(); i++) {
-                images.add(new PostImage(saved, keys.get(i), i));
-            }
-            postImageRepository.saveAll(images);
+            postImageRepository.insertAll(saved.getId(), keys);
+            imageVariantService.generateAfterCommit(ImageType.POST, saved.getId(), keys);
         }
 
-        // 통계 생성 및 동기화
+        // 통계 생성 (신규 게시글이므로 0으로 시작)
         PostStat stat = postStatService.create(saved);
-        stat = postStatService.syncStatistics(saved.getId());
+        postStatChangeJournal.record(saved.getId());
+        feedPageCache.bumpVersionAfterCommit();
+        jsonResponseCache.invalidateAfterCommit(JsonResponseCache.Group.POSTS);
         
-        boolean isLiked = (currentUserId != null) && postLikeRepository.existsByIdPostIdAndIdUserId(saved.getId(), currentUserId);
+        boolean isLiked = likedPostIndex.isLiked(currentUserId, saved.getId());
 
         return ApiResponse.created(PostDetailDto.from(saved,
                 postImageRepository.findByPostIdOrderByDisplayOrderAsc(saved.getId()),
                 PostStatResponseDto.from(stat),
-                List.of(),
+                CommentTreeDto.empty(),
                 isLiked));
     }
 
     /**
      * 게시글 수정
-     * - 의도: 제목/내용 선택 수정, 이미지 배열 전달 시 전체 교체
+     * - 의도: 제목/내용 선택 수정, 이미지 배열 전달 시 해당 목록으로 교체 (변경분만 반영)
      * - 정책: null=미변경, 빈 배열=전부 제거
      * - 에러: 게시글 미존재 시 404
      */
@@ -182,37 +201,36 @@ public class PostService {
             post.updateContent(request.getContent().trim());
         }
 
-        // 이미지 전체 교체 정책
+        // 이미지 교체 정책: 기존 목록과 diff하여 필요한 DELETE/INSERT/순서 UPDATE만 실행
         if (request.getImageObjectKeys() != null) {
-            List<PostImage> existing = postImageRepository.findByPostOrderByDisplayOrderAsc(post);
-            postImageRepository.deleteAll(existing);
-
             List<String> keys = request.getImageObjectKeys();
-            if (!keys.isEmpty()) {
-                if (keys.size() > imageProperties.getMaxPerPost()) {
-                    throw new BadRequestException("이미지 최대 업로드 개수는 " + imageProperties.getMaxPerPost() + "개 입니다");
-                }
-                // 이미지 objectKey 검증
-                for (String objectKey : keys) {
-                    imageUploadService.validateObjectKey(ImageType.POST, objectKey, postId);
-                }
-                
-                List<PostImage> newImages = new java.util.ArrayList<>(keys.size());
-                for (int i = 0; i < keys.size(); i++) {
-                    newImages.add(new PostImage(post, keys.get(i), i));
-                }
-                postImageRepository.saveAll(newImages);
+            if (keys.size() > imageProperties.getMaxPerPost()) {
+                throw new BadRequestException("이미지 최대 업로드 개수는 " + imageProperties.getMaxPerPost() + "개 입니다");
             }
+            ImageListDiff diff = ImageListDiff.of(postImageRepository.findSlotsByPostId(postId), keys);
+            // 새로 첨부되는 objectKey만 검증 (기존 첨부는 이미 검증됨)
+            imageUploadService.validateObjectKeys(ImageType.POST, diff.insertedKeys(), postId);
+            if (!diff.deletedIds().isEmpty()) {
+                postImageRepository.deleteAllByIdInBatch(diff.deletedIds());
+            }
+            postImageRepository.updateDisplayOrders(diff.reorders());
+            postImageRepository.insertSlots(postId, diff.inserts());
+            imageVariantService.generateAfterCommit(ImageType.POST, postId, diff.insertedKeys());
         }
 
-        // 통계 동기화
-        PostStat stat = postStatService.syncStatistics(postId);
-        boolean isLiked = (currentUserId != null) && postLikeRepository.existsByIdPostIdAndIdUserId(postId, currentUserId);
+        postDetailCache.invalidateAfterCommit(postId);
+        feedPageCache.bumpVersionAfterCommit();
+        jsonResponseCache.invalidateAfterCommit(JsonResponseCache.Group.POSTS);
+
+        // 통계 (재집계는 PostStatReconciler가 담당)
+        PostStat stat = postStatService.findByIdOrCreate(postId);
+        boolean isLiked = likedPostIndex.isLiked(currentUserId, postId);
 
         return ApiResponse.modified(PostDetailDto.from(post,
                 postImageRepository.findByPostIdOrderByDisplayOrderAsc(postId),
                 PostStatResponseDto.from(stat),
-                commentRepository.findByPostIdOrderByCreatedAtAsc(postId),
+                commentTreeLoader.load(postId, null,
+                        CommentTreeLoader.DEFAULT_ROOT_LIMIT, CommentTreeLoader.DEFAULT_REPLY_LIMIT),
                 isLiked));
     }
 
@@ -226,6 +244,10 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
         post.softDelete();
+        postStatChangeJournal.record(postId);
+        postDetailCache.invalidateAfterCommit(postId);
+        feedPageCache.bumpVersionAfterCommit();
+        jsonResponseCache.invalidateAfterCommit(JsonResponseCache.Group.POSTS);
         return ApiResponse.deleted(null);
     }
 }
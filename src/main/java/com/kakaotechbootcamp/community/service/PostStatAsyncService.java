@@ -1,44 +1,222 @@
 package com.kakaotechbootcamp.community.service;
 
+import com.kakaotechbootcamp.community.common.TransactionHooks;
+import com.kakaotechbootcamp.community.config.PostStatProperties;
 import com.kakaotechbootcamp.community.repository.PostStatRepository;
+import com.kakaotechbootcamp.community.repository.PostStatRepositoryCustom.Delta;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 통계 카운터 비동기 반영 서비스 (write-behind)
+ * - 의도: 조회수/좋아요/댓글 수 증감을 이벤트마다 UPDATE 하지 않고 메모리에 게시글별로 누적 후 주기적으로 일괄 반영
+ * - 누적: 커밋 이후에만 반영, 게시글별 LongAdder로 경합 분산
+ * - 반영: post-stat.flush-interval-ms 주기로 UPDATE ... CASE 배치 실행, 종료 시 잔여분 drain
+ * - 실패: 일괄 반영 트랜잭션 실패 시 누적분을 되돌려 다음 주기에 재시도
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostStatAsyncService {
 
     private final PostStatRepository postStatRepository;
+    private final PostStatProperties postStatProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    // 누적 버퍼 교체(swap) 시에만 write lock, 누적은 read lock으로 동시 진행
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Object flushMonitor = new Object();
+    private volatile ConcurrentHashMap<Integer, Counter> pending = new ConcurrentHashMap<>();
+    // 반영 트랜잭션 진행 중인 누적분 (반영 완료 전까지 pendingLikeDelta에 포함)
+    private volatile Map<Integer, Counter> inFlight = Map.of();
 
-    @Async
-    @Transactional
     public void incrementViewCount(Integer postId) {
-        postStatRepository.incrementViewCount(postId);
+        accumulate(postId, 1, 0, 0);
     }
 
-    @Async
-    @Transactional
     public void incrementLikeCount(Integer postId) {
-        postStatRepository.incrementLikeCount(postId);
+        accumulate(postId, 0, 1, 0);
     }
 
-    @Async
-    @Transactional
     public void decrementLikeCount(Integer postId) {
-        postStatRepository.decrementLikeCount(postId);
+        accumulate(postId, 0, -1, 0);
     }
 
-    @Async
-    @Transactional
     public void incrementCommentCount(Integer postId) {
-        postStatRepository.incrementCommentCount(postId);
+        accumulate(postId, 0, 0, 1);
     }
 
-    @Async
-    @Transactional
     public void decrementCommentCount(Integer postId) {
-        postStatRepository.decrementCommentCount(postId);
+        accumulate(postId, 0, 0, -1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 증감분
+     * - 의도: like_count 컬럼 값에 더해 현재 시점의 좋아요 수를 응답할 때 사용
+     */
+    public int pendingLikeDelta(Integer postId) {
+        int delta = 0;
+        Counter counter = pending.get(postId);
+        if (counter != null) {
+            delta += counter.likes.intValue();
+        }
+        Counter flushing = inFlight.get(postId);
+        if (flushing != null) {
+            delta += flushing.likes.intValue();
+        }
+        return delta;
+    }
+
+    /**
+     * 누적분 일괄 반영
+     * - 의도: 누적 버퍼를 새 버퍼로 교체한 뒤, 교체된 버퍼를 batch 단위 UPDATE로 한 트랜잭션에 반영
+     * - 동시 실행 방지: 스케줄러/종료 훅이 겹쳐도 한 번에 하나만 반영
+     */
+    @Scheduled(fixedDelayString = "${post-stat.flush-interval-ms:1000}")
+    public void flush() {
+        synchronized (flushMonitor) {
+            Map<Integer, Counter> drained = swap();
+            if (drained.isEmpty()) {
+                return;
+            }
+            try {
+                apply(drained);
+            } finally {
+                inFlight = Map.of();
+            }
+        }
+    }
+
+    // 교체된 버퍼를 batch 단위 UPDATE로 한 트랜잭션에 반영, 실패 시 누적분 복원
+    private void apply(Map<Integer, Counter> drained) {
+        Map<Integer, Delta> deltas = new HashMap<>(drained.size());
+        drained.forEach((postId, counter) -> {
+            Delta delta = counter.toDelta();
+            if (!delta.isEmpty()) {
+                deltas.put(postId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map<Integer, Delta> batch : partition(deltas, postStatProperties.getFlushBatchSize())) {
+                    postStatRepository.applyDeltas(batch);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("게시글 통계 반영 실패, 다음 주기에 재시도합니다 (게시글 {}건)", deltas.size(), e);
+            deltas.forEach((postId, delta) -> add(postId, delta.viewCount(), delta.likeCount(), delta.commentCount()));
+        }
+    }
+
+    /**
+     * flush 후 집계 실행 (집계가 끝날 때까지 다른 flush 차단)
+     * - 반환: 집계 종료 시점에 좋아요/댓글 증감이 아직 버퍼에 남은 게시글
+     *         (DB 커밋과 버퍼 누적 사이에 집계가 끼어들면 해당 증감은 집계에 이미 포함되어 이후 flush 시 이중 반영됨)
+     * - 호출자는 반환된 게시글을 다시 보정 대상으로 등록해 다음 보정에서 바로잡음
+     */
+    public List<Integer> flushThen(Collection<Integer> postIds, Runnable aggregate) {
+        synchronized (flushMonitor) {
+            flush();
+            aggregate.run();
+            List<Integer> buffered = new ArrayList<>();
+            for (Integer postId : postIds) {
+                Counter counter = pending.get(postId);
+                if (counter != null && (counter.likes.sum() != 0 || counter.comments.sum() != 0)) {
+                    buffered.add(postId);
+                }
+            }
+            return buffered;
+        }
+    }
+
+    /**
+     * 종료 시 잔여 누적분 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private void accumulate(Integer postId, int views, int likes, int comments) {
+        if (postId == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> add(postId, views, likes, comments));
+    }
+
+    private void add(Integer postId, int views, int likes, int comments) {
+        swapLock.readLock().lock();
+        try {
+            Counter counter = pending.computeIfAbsent(postId, id -> new Counter());
+            if (views != 0) counter.views.add(views);
+            if (likes != 0) counter.likes.add(likes);
+            if (comments != 0) counter.comments.add(comments);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // write lock 하에서 교체하므로 반환된 버퍼에는 더 이상 누적되지 않음
+    private Map<Integer, Counter> swap() {
+        swapLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return Map.of();
+            }
+            Map<Integer, Counter> drained = pending;
+            inFlight = drained;
+            pending = new ConcurrentHashMap<>();
+            return drained;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private List<Map<Integer, Delta>> partition(Map<Integer, Delta> deltas, int batchSize) {
+        int size = batchSize <= 0 ? deltas.size() : batchSize;
+        List<Map<Integer, Delta>> batches = new ArrayList<>();
+        Map<Integer, Delta> current = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Delta> entry : deltas.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() >= size) {
+                batches.add(current);
+                current = new LinkedHashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /**
+     * 게시글별 증감 누적기
+     */
+    private static final class Counter {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder comments = new LongAdder();
+
+        private Delta toDelta() {
+            return new Delta(views.intValue(), likes.intValue(), comments.intValue());
+        }
     }
 }
@@ -0,0 +1,79 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.common.TransactionHooks;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 통계 변경 저널
+ * - 의도: 좋아요/댓글/게시글 변경이 커밋된 게시글 ID를 "보정 필요(dirty)"로 기록
+ * - 사용처: PostLikeService, CommentService, PostService (기록) / PostStatReconciler (소비)
+ * - 같은 게시글은 한 번만 기록되며, 최초 기록 시각으로 보정 지연(lag) 계산
+ */
+@Component
+public class PostStatChangeJournal {
+
+    // postId → 최초 기록 시각(epoch ms)
+    private final Map<Integer, Long> dirtySince = new ConcurrentHashMap<>();
+    private final AtomicLong recordedCount = new AtomicLong();
+
+    /**
+     * 변경 기록 (커밋 이후 반영)
+     */
+    public void record(Integer postId) {
+        if (postId == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            dirtySince.putIfAbsent(postId, System.currentTimeMillis());
+            recordedCount.incrementAndGet();
+        });
+    }
+
+    /**
+     * 보정 대상 최대 limit건 꺼내기 (꺼낸 ID는 저널에서 제거)
+     */
+    public List<Integer> poll(int limit) {
+        List<Integer> postIds = new ArrayList<>();
+        Iterator<Integer> iterator = dirtySince.keySet().iterator();
+        while (iterator.hasNext() && (limit <= 0 || postIds.size() < limit)) {
+            postIds.add(iterator.next());
+            iterator.remove();
+        }
+        return postIds;
+    }
+
+    /**
+     * 보정 실패분 재등록
+     */
+    public void requeue(Collection<Integer> postIds) {
+        long now = System.currentTimeMillis();
+        postIds.forEach(postId -> dirtySince.putIfAbsent(postId, now));
+    }
+
+    public int pendingCount() {
+        return dirtySince.size();
+    }
+
+    public long recordedCount() {
+        return recordedCount.get();
+    }
+
+    /**
+     * 가장 오래 대기 중인 기록의 경과 시간(밀리초), 없으면 0
+     */
+    public long oldestPendingAgeMillis() {
+        long now = System.currentTimeMillis();
+        return dirtySince.values().stream()
+                .mapToLong(since -> now - since)
+                .max()
+                .orElse(0L);
+    }
+}
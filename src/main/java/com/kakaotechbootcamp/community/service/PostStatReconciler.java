@@ -0,0 +1,101 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.config.PostStatProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 통계 백그라운드 보정 서비스
+ * - 의도: 읽기 경로에서 매번 COUNT 하지 않고, 변경 저널에 기록된 게시글만 batch 단위로 일괄 재집계
+ * - 순서: batch마다 누적 카운터 flush → GROUP BY 집계 → UPDATE (이 구간에는 다른 flush 차단)
+ * - 이중 반영: flush 이후 커밋된 좋아요/댓글은 집계에 포함되면서 버퍼에도 남아 다음 flush 때 한 번 더 더해질 수 있음
+ *             집계 직후 버퍼에 증감이 남은 게시글은 저널에 재등록하므로, 오차는 다음 보정 주기까지만 유지됨
+ * - 실패: 해당 batch를 저널에 재등록해 다음 주기에 재시도
+ * - 지표: 대기 건수/최대 지연/누적 처리 건수 등 (metrics())
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostStatReconciler {
+
+    private final PostStatService postStatService;
+    private final PostStatAsyncService postStatAsyncService;
+    private final PostStatChangeJournal postStatChangeJournal;
+    private final PostStatProperties postStatProperties;
+
+    private final AtomicLong reconciledCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private volatile long lastRunAt;
+    private volatile long lastRunDurationMs;
+
+    /**
+     * 저널에 기록된 게시글 통계 일괄 보정
+     * - 1회 실행당 최대 reconcile-max-batches × reconcile-batch-size 건 처리
+     */
+    @Scheduled(fixedDelayString = "${post-stat.reconcile-interval-ms:10000}")
+    public void reconcile() {
+        if (postStatChangeJournal.pendingCount() == 0) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+
+        int batchSize = postStatProperties.getReconcileBatchSize();
+        for (int i = 0; i < postStatProperties.getReconcileMaxBatches(); i++) {
+            List<Integer> postIds = postStatChangeJournal.poll(batchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            try {
+                List<Integer> buffered = postStatAsyncService.flushThen(postIds,
+                        () -> postStatService.syncStatistics(postIds));
+                postStatChangeJournal.requeue(buffered);
+                reconciledCount.addAndGet(postIds.size());
+                batchCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                log.warn("게시글 통계 보정 실패, 다음 주기에 재시도합니다 (게시글 {}건)", postIds.size(), e);
+                failureCount.incrementAndGet();
+                postStatChangeJournal.requeue(postIds);
+                break;
+            }
+        }
+
+        lastRunAt = startedAt;
+        lastRunDurationMs = System.currentTimeMillis() - startedAt;
+    }
+
+    /**
+     * 보정 진행/지연 지표
+     */
+    public Metrics metrics() {
+        return new Metrics(
+                postStatChangeJournal.pendingCount(),
+                postStatChangeJournal.oldestPendingAgeMillis(),
+                postStatChangeJournal.recordedCount(),
+                reconciledCount.get(),
+                batchCount.get(),
+                failureCount.get(),
+                lastRunAt,
+                lastRunDurationMs
+        );
+    }
+
+    /**
+     * 보정 지표 스냅샷
+     */
+    public record Metrics(
+            int pendingPosts,            // 보정 대기 게시글 수
+            long oldestPendingAgeMs,     // 가장 오래된 대기 건의 지연(ms)
+            long recordedChanges,        // 누적 변경 기록 수
+            long reconciledPosts,        // 누적 보정 게시글 수
+            long batches,                // 누적 batch 수
+            long failures,               // 누적 실패 batch 수
+            long lastRunAt,              // 마지막 실행 시각(epoch ms, 0=미실행)
+            long lastRunDurationMs       // 마지막 실행 소요 시간(ms)
+    ) {}
+}
@@ -6,6 +6,7 @@ import com.kakaotechbootcamp.community.entity.Post;
 import com.kakaotechbootcamp.community.entity.PostStat;
 import com.kakaotechbootcamp.community.exception.NotFoundException;
 import com.kakaotechbootcamp.community.repository.CommentRepository;
+import com.kakaotechbootcamp.community.repository.PostCountProjection;
 import com.kakaotechbootcamp.community.repository.PostLikeRepository;
 import com.kakaotechbootcamp.community.repository.PostRepository;
 import com.kakaotechbootcamp.community.repository.PostStatRepository;
@@ -13,6 +14,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 게시글 통계 서비스
  * - 의도: 통계 조회/동기화(좋아요/댓글 수) 제공
@@ -78,6 +84,22 @@ public class PostStatService {
         return stat;
     }
 
+    /**
+     * 통계 일괄 동기화
+     * - 의도: 여러 게시글의 like/comment 수를 GROUP BY 집계 2회 + UPDATE 1회로 재계산
+     * - 사용처: PostStatReconciler (변경된 게시글 대상 백그라운드 보정)
+     * - 반환: 반영된 행 수
+     */
+    @Transactional
+    public int syncStatistics(Collection<Integer> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, Long> likeCounts = toMap(postLikeRepository.countGroupByPostIds(postIds));
+        Map<Integer, Long> commentCounts = toMap(commentRepository.countGroupByPostIds(postIds));
+        return postStatRepository.syncCounts(postIds, likeCounts, commentCounts);
+    }
+
     /**
      * 통계 동기화 (API 응답용)
      * - 의도: 테이블(PostLike, Comment)로부터 like/comment 수 집계하여 PostStat 반영 및 저장
@@ -88,4 +110,10 @@ public class PostStatService {
         PostStat saved = postStatRepository.save(stat);
         return ApiResponse.modified(PostStatResponseDto.from(saved));
     }
+
+    private Map<Integer, Long> toMap(List<PostCountProjection> rows) {
+        Map<Integer, Long> counts = new HashMap<>(rows.size());
+        rows.forEach(row -> counts.put(row.getPostId(), row.getTotal()));
+        return counts;
+    }
 }
@@ -1,6 +1,8 @@
 package com.kakaotechbootcamp.community.service;
 
 import com.kakaotechbootcamp.community.common.ApiResponse;
+import com.kakaotechbootcamp.community.common.KeysetCursor;
+import com.kakaotechbootcamp.community.dto.product.ProductCommentCursorResponseDto;
 import com.kakaotechbootcamp.community.dto.product.ProductCommentRequestDto;
 import com.kakaotechbootcamp.community.dto.product.ProductCommentResponseDto;
 import com.kakaotechbootcamp.community.entity.Product;
@@ -8,6 +10,8 @@ import com.kakaotechbootcamp.community.entity.ProductComment;
 import com.kakaotechbootcamp.community.entity.User;
 import com.kakaotechbootcamp.community.exception.BadRequestException;
 import com.kakaotechbootcamp.community.exception.NotFoundException;
+import com.kakaotechbootcamp.community.dto.user.UserReferenceDto;
+import com.kakaotechbootcamp.community.repository.AuthorProjection;
 import com.kakaotechbootcamp.community.repository.ProductCommentRepository;
 import com.kakaotechbootcamp.community.repository.ProductRepository;
 import com.kakaotechbootcamp.community.repository.UserRepository;
@@ -19,6 +23,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 중고거래 상품 댓글 도메인 서비스
  * - 목록/생성/수정/삭제 비즈니스 로직
@@ -59,8 +65,44 @@ public class ProductCommentService {
         return ApiResponse.success(result);
     }
 
+    /**
+     * 상품 댓글 목록 커서 조회 (생성일 오름차순)
+     * - 의도: (created_at, product_comment_id) keyset으로 다음 페이지 조회, COUNT/OFFSET 없음
+     * - 파라미터: cursor(null/빈 값이면 첫 페이지), size(기본 10, 최대 20)
+     * - 에러: 상품 미존재 시 404, 커서 형식 오류 시 400
+     */
+    public ApiResponse<ProductCommentCursorResponseDto> listByProductCursor(Integer productId, String cursor, Integer size) {
+        if (productId == null || productId <= 0) {
+            throw new BadRequestException("유효한 상품 ID가 필요합니다");
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        if (!productRepository.existsById(productId)) {
+            throw new NotFoundException("상품을 찾을 수 없습니다");
+        }
+        int requested = (size == null || size <= 0) ? 10 : size;
+        int pageSize = Math.min(requested, 20);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<ProductComment> comments = (after == null)
+                ? productCommentRepository.findFirstPageByProductId(productId, limit)
+                : productCommentRepository.findPageByProductIdAfter(productId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = comments.size() > pageSize;
+        List<ProductComment> page = hasNext ? comments.subList(0, pageSize) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            ProductComment last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return ApiResponse.success(new ProductCommentCursorResponseDto(
+                page.stream().map(ProductCommentResponseDto::from).toList(), nextCursor, hasNext));
+    }
+
     /**
      * 상품 댓글 생성 (대댓글 포함)
+     * - 쿼리: 존재 확인 프로젝션 1회 + INSERT 1회 (대댓글이면 부모 조회 1회 추가)
      */
     @Transactional
     public ApiResponse<ProductCommentResponseDto> create(Integer productId, Integer userId, ProductCommentRequestDto request) {
@@ -68,10 +110,13 @@ public class ProductCommentService {
             throw new BadRequestException("유효한 ID가 필요합니다");
         }
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new NotFoundException("상품을 찾을 수 없습니다"));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        // 상품/사용자 존재 확인 + 응답용 작성자 정보를 1회 조회, 엔티티는 참조(프록시)만 사용
+        AuthorProjection author = userRepository.findAuthorIfProductExists(userId, productId)
+                .orElseThrow(() -> productRepository.existsById(productId)
+                        ? new NotFoundException("사용자를 찾을 수 없습니다")
+                        : new NotFoundException("상품을 찾을 수 없습니다"));
+        Product product = productRepository.getReferenceById(productId);
+        User user = userRepository.getReferenceById(userId);
 
         if (request == null || request.getContent() == null || request.getContent().isBlank()) {
             throw new BadRequestException("댓글 내용을 입력해주세요");
@@ -102,7 +147,7 @@ public class ProductCommentService {
                 new ProductComment(product, user, parentId, request.getContent().trim(), depth)
         );
 
-        return ApiResponse.created(ProductCommentResponseDto.from(saved));
+        return ApiResponse.created(ProductCommentResponseDto.from(saved, UserReferenceDto.from(author)));
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.kakaotechbootcamp.community.service;
 
+import com.kakaotechbootcamp.community.cache.JsonResponseCache;
 import com.kakaotechbootcamp.community.common.ApiResponse;
 import com.kakaotechbootcamp.community.common.ImageProperties;
+import com.kakaotechbootcamp.community.common.ImageListDiff;
 import com.kakaotechbootcamp.community.common.ImageType;
 import com.kakaotechbootcamp.community.dto.product.*;
 import com.kakaotechbootcamp.community.entity.*;
@@ -31,7 +33,9 @@ public class ProductService {
     private final ProductImageRepository productImageRepository;
     private final UserRepository userRepository;
     private final ImageUploadService imageUploadService;
+    private final ImageVariantService imageVariantService;
     private final ImageProperties imageProperties;
+    private final JsonResponseCache jsonResponseCache;
 
     /**
      * 상품 목록 조회(커서 기반)
@@ -74,14 +78,14 @@ public class ProductService {
             }
         }
 
-        // 썸네일 이미지 조회
+        // 썸네일 이미지 조회 (축소본이 있으면 축소본)
         Map<Integer, String> productIdToThumbnail = new HashMap<>();
         List<Integer> productIds = products.stream().map(Product::getId).toList();
         
         if (!productIds.isEmpty()) {
             List<ProductImage> thumbnails = productImageRepository.findFirstByProductIds(productIds);
             for (ProductImage thumbnail : thumbnails) {
-                productIdToThumbnail.put(thumbnail.getProduct().getId(), thumbnail.getObjectKey());
+                productIdToThumbnail.put(thumbnail.getProduct().getId(), thumbnail.getListObjectKey());
             }
         }
 
@@ -144,13 +148,12 @@ public class ProductService {
             }
             // 이미지 objectKey 검증
             List<String> keys = request.getImageObjectKeys();
-            for (String objectKey : keys) {
-                imageUploadService.validateObjectKey(ImageType.PRODUCT, objectKey, saved.getId());
-            }
+            imageUploadService.validateObjectKeys(ImageType.PRODUCT, keys, saved.getId());
             saveProductImages(saved, keys);
         }
 
         ProductDetailDto dto = buildProductDetailDto(saved);
+        jsonResponseCache.invalidateAfterCommit(JsonResponseCache.Group.PRODUCTS);
         return ApiResponse.created(dto);
     }
 
@@ -173,25 +176,25 @@ public class ProductService {
             product.updateStatus(ProductStatus.valueOf(request.getStatus()));
         }
 
-        // 이미지 전체 교체 정책
+        // 이미지 교체 정책: 기존 목록과 diff하여 필요한 DELETE/INSERT/순서 UPDATE만 실행
         if (request.getImageObjectKeys() != null) {
-            List<ProductImage> existing = productImageRepository.findByProductOrderByDisplayOrderAsc(product);
-            productImageRepository.deleteAll(existing);
-            
-            if (!request.getImageObjectKeys().isEmpty()) {
-                if (request.getImageObjectKeys().size() > imageProperties.getMaxPerPost()) {
-                    throw new BadRequestException("이미지 최대 업로드 개수는 " + imageProperties.getMaxPerPost() + "개 입니다");
-                }
-                // 이미지 objectKey 검증
-                List<String> keys = request.getImageObjectKeys();
-                for (String objectKey : keys) {
-                    imageUploadService.validateObjectKey(ImageType.PRODUCT, objectKey, productId);
-                }
-                saveProductImages(product, keys);
+            List<String> keys = request.getImageObjectKeys();
+            if (keys.size() > imageProperties.getMaxPerPost()) {
+                throw new BadRequestException("이미지 최대 업로드 개수는 " + imageProperties.getMaxPerPost() + "개 입니다");
             }
+            ImageListDiff diff = ImageListDiff.of(productImageRepository.findSlotsByProductId(productId), keys);
+            // 새로 첨부되는 objectKey만 검증 (기존 첨부는 이미 검증됨)
+            imageUploadService.validateObjectKeys(ImageType.PRODUCT, diff.insertedKeys(), productId);
+            if (!diff.deletedIds().isEmpty()) {
+                productImageRepository.deleteAllByIdInBatch(diff.deletedIds());
+            }
+            productImageRepository.updateDisplayOrders(diff.reorders());
+            productImageRepository.insertSlots(productId, diff.inserts());
+            imageVariantService.generateAfterCommit(ImageType.PRODUCT, productId, diff.insertedKeys());
         }
 
         ProductDetailDto dto = buildProductDetailDto(product);
+        jsonResponseCache.invalidateAfterCommit(JsonResponseCache.Group.PRODUCTS);
         return ApiResponse.modified(dto);
     }
 
@@ -213,6 +216,7 @@ public class ProductService {
         product.updateStatus(newStatus);
 
         ProductDetailDto dto = buildProductDetailDto(product);
+        jsonResponseCache.invalidateAfterCommit(JsonResponseCache.Group.PRODUCTS);
         return ApiResponse.modified(dto);
     }
 
@@ -226,23 +230,20 @@ public class ProductService {
 
         product.setDeletedAt(LocalDateTime.now());
         
+        jsonResponseCache.invalidateAfterCommit(JsonResponseCache.Group.PRODUCTS);
         return ApiResponse.deleted(null);
     }
 
     /**
      * 상품 이미지 저장 헬퍼 메서드
-     * - 의도: 이미지 순서대로 저장 (displayOrder = index)
+     * - 의도: 이미지 순서대로 저장 (displayOrder = index), 다중 행 INSERT 1회
      */
     private void saveProductImages(Product product, List<String> imageObjectKeys) {
         if (imageObjectKeys == null || imageObjectKeys.isEmpty()) {
             return;
         }
-
-        List<ProductImage> images = new java.util.ArrayList<>();
-        for (int i = 0; i < imageObjectKeys.size(); i++) {
-            images.add(new ProductImage(product, imageObjectKeys.get(i), i));
-        }
-        productImageRepository.saveAll(images);
+        productImageRepository.insertAll(product.getId(), imageObjectKeys);
+        imageVariantService.generateAfterCommit(ImageType.PRODUCT, product.getId(), imageObjectKeys);
     }
 
     /**
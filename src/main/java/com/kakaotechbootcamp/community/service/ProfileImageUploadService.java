@@ -0,0 +1,160 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.common.ImageProperties;
+import com.kakaotechbootcamp.community.common.TransactionHooks;
+import com.kakaotechbootcamp.community.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원가입 프로필 이미지 비동기 업로드 서비스
+ * - 의도: 가입 트랜잭션(DB 커넥션)이 S3 업로드 지연과 무관하도록 커밋 후 별도 스레드에서 업로드
+ * - 흐름: 요청 중 임시 파일로 복사(stage) → 커밋 후 업로드 → 성공 시 profileImageKey 설정 → 임시 파일 삭제
+ * - 재시도: image.profile-upload.max-attempts까지 지수 백오프, 최종 실패 시 로그 후 포기 (프로필 없이 가입 유지)
+ * - 상태: 업로드 완료 전까지 isPending=true (응답의 profileImagePending)
+ * - 한계: 대기 작업/상태는 메모리에만 있어 재시작(종료 시 shutdownNow) 시 미완료 업로드는 유실됨
+ *         (해당 사용자는 프로필 이미지 없이 가입 유지, 다시 등록 필요), 남은 임시 파일은 기동 시 삭제
+ */
+@Slf4j
+@Service
+public class ProfileImageUploadService {
+
+    private static final String STAGED_PREFIX = "profile-upload-";
+    private static final String STAGED_SUFFIX = ".tmp";
+
+    private final S3Service s3Service;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageProperties.ProfileUpload properties;
+    private final Path stagingDir;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Set<Integer> pendingUserIds = ConcurrentHashMap.newKeySet();
+
+    public ProfileImageUploadService(
+            S3Service s3Service,
+            UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            ImageProperties imageProperties) {
+        this.s3Service = s3Service;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = imageProperties.getProfileUpload();
+        this.stagingDir = Path.of(properties.getStagingDir());
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(Math.max(1, properties.getWorkerThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "profile-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 이전 실행에서 남은 임시 파일 삭제 (재시작으로 유실된 업로드의 잔여물)
+     */
+    @PostConstruct
+    public void cleanUpStaleStagedFiles() {
+        try {
+            Files.createDirectories(stagingDir);
+            int deleted = 0;
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(stagingDir, STAGED_PREFIX + "*" + STAGED_SUFFIX)) {
+                for (Path path : stale) {
+                    if (Files.deleteIfExists(path)) {
+                        deleted++;
+                    }
+                }
+            }
+            if (deleted > 0) {
+                log.info("Deleted stale staged profile images: dir={}, count={}", stagingDir, deleted);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up staged profile images: dir={}", stagingDir, e);
+        }
+    }
+
+    /**
+     * 업로드할 내용을 임시 파일로 복사 (요청 종료 후에도 사용할 수 있도록)
+     */
+    public Path stage(InputStream in) throws IOException {
+        Files.createDirectories(stagingDir);
+        Path staged = Files.createTempFile(stagingDir, STAGED_PREFIX, STAGED_SUFFIX);
+        try {
+            Files.copy(in, staged, StandardCopyOption.REPLACE_EXISTING);
+            return staged;
+        } catch (IOException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+    }
+
+    /**
+     * 커밋 후 업로드 예약 (롤백 시 임시 파일 삭제)
+     */
+    public void uploadAfterCommit(Integer userId, String objectKey, Path staged, String contentType) {
+        pendingUserIds.add(userId);
+        UploadJob job = new UploadJob(userId, objectKey, staged, contentType);
+        TransactionHooks.afterRollback(() -> finish(job));
+        TransactionHooks.afterCommit(() -> scheduler.execute(() -> attempt(job, 1)));
+    }
+
+    public boolean isPending(Integer userId) {
+        return userId != null && pendingUserIds.contains(userId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void attempt(UploadJob job, int attempt) {
+        try (InputStream in = Files.newInputStream(job.staged())) {
+            s3Service.uploadStream(job.objectKey(), in, Files.size(job.staged()), job.contentType());
+        } catch (Exception e) {
+            if (attempt >= properties.getMaxAttempts()) {
+                log.warn("Profile image upload failed, giving up: userId={}, objectKey={}, attempts={}",
+                        job.userId(), job.objectKey(), attempt, e);
+                finish(job);
+                return;
+            }
+            long backoff = properties.getInitialBackoffMillis() << (attempt - 1);
+            scheduler.schedule(() -> attempt(job, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.updateProfileImageKeyIfAbsent(job.userId(), job.objectKey()));
+        } catch (Exception e) {
+            log.warn("Profile image key update failed: userId={}, objectKey={}", job.userId(), job.objectKey(), e);
+        } finally {
+            finish(job);
+        }
+    }
+
+    private void finish(UploadJob job) {
+        pendingUserIds.remove(job.userId());
+        try {
+            Files.deleteIfExists(job.staged());
+        } catch (IOException e) {
+            log.warn("Failed to delete staged profile image: {}", job.staged(), e);
+        }
+    }
+
+    record UploadJob(Integer userId, String objectKey, Path staged, String contentType) {
+    }
+}
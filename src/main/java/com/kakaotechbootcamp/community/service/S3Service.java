@@ -1,80 +1,142 @@
 package com.kakaotechbootcamp.community.service;
 
 import com.kakaotechbootcamp.community.config.S3Properties;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * S3 서비스
+ * - 의도: S3Client/S3Presigner는 S3Config의 싱글톤을 공유 (요청마다 생성/종료하지 않음)
+ */
 @Service
-@RequiredArgsConstructor
 public class S3Service {
     
     private final S3Properties s3Properties;
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    // 서버 경유 업로드 동시 수 제한 (요청당 버퍼가 SDK 재시도용 버퍼 크기로 고정되므로 전체 메모리 상한이 됨)
+    private final Semaphore uploadPermits;
+
+    public S3Service(S3Properties s3Properties, S3Client s3Client, S3Presigner s3Presigner) {
+        this.s3Properties = s3Properties;
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.uploadPermits = new Semaphore(Math.max(1, s3Properties.getMaxConcurrentUploads()));
+    }
     
     // S3 Presigned URL 생성
     public String generatePresignedUrl(String objectKey, String contentType) {
-        Region region = Region.of(s3Properties.getRegion());
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(s3Properties.getBucketName())
+                .key(objectKey)
+                .contentType(contentType)
+                .build();
         
-        try (S3Presigner presigner = S3Presigner.builder()
-                .region(region)
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build()) {
-            
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(s3Properties.getBucketName())
-                    .key(objectKey)
-                    .contentType(contentType)
-                    .build();
-            
-            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(s3Properties.getPresignedUrlExpirationMinutes()))
-                    .putObjectRequest(putObjectRequest)
-                    .build();
-            
-            PresignedPutObjectRequest presignedRequest = presigner.presignPutObject(presignRequest);
-            return presignedRequest.url().toString();
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofMinutes(s3Properties.getPresignedUrlExpirationMinutes()))
+                .putObjectRequest(putObjectRequest)
+                .build();
+        
+        PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
+        return presignedRequest.url().toString();
+    }
+    
+    // S3 Presigned URL 일괄 생성 (공유 presigner로 순차 서명, 결과는 입력 순서 유지)
+    // 서명은 로컬 HMAC 계산이라 건당 비용이 작고 요청당 개수도 image.max-per-post로 제한되므로 공용 ForkJoinPool을 쓰지 않음
+    public List<String> generatePresignedUrls(List<String> objectKeys, List<String> contentTypes) {
+        if (objectKeys.size() != contentTypes.size()) {
+            throw new IllegalArgumentException("objectKeys와 contentTypes의 크기가 다릅니다");
+        }
+        List<String> urls = new ArrayList<>(objectKeys.size());
+        for (int i = 0; i < objectKeys.size(); i++) {
+            urls.add(generatePresignedUrl(objectKeys.get(i), contentTypes.get(i)));
         }
+        return urls;
     }
     
     // S3 Public URL 생성 (objectKey로부터 접근 가능한 Public URL 반환)
     public String generatePublicUrl(String objectKey) {
+        if (s3Properties.hasEndpoint()) {
+            String endpoint = s3Properties.getEndpoint().replaceAll("/+$", "");
+            return String.format("%s/%s/%s", endpoint, s3Properties.getBucketName(), objectKey);
+        }
         return String.format("https://%s.s3.%s.amazonaws.com/%s",
                 s3Properties.getBucketName(),
                 s3Properties.getRegion(),
                 objectKey);
     }
     
-    // S3에 직접 파일 업로드 (회원가입 시)
-    public String uploadFile(String objectKey, MultipartFile file) throws IOException {
-        Region region = Region.of(s3Properties.getRegion());
-        
-        try (S3Client s3Client = S3Client.builder()
-                .region(region)
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .httpClientBuilder(UrlConnectionHttpClient.builder())
-                .build()) {
-            
+    /**
+     * 스트림을 그대로 S3에 업로드 (전체 바이트를 메모리에 올리지 않음)
+     * - 길이를 알고 있으므로 Content-Length 지정 전송, SDK는 재시도용 앞부분 버퍼만 유지
+     * - 동시 업로드 수는 aws.s3.max-concurrent-uploads로 제한, 대기 초과 시 IllegalStateException (호출 측 재시도 대상)
+     */
+    public String uploadStream(String objectKey, InputStream in, long contentLength, String contentType) {
+        acquireUploadPermit();
+        try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(s3Properties.getBucketName())
                     .key(objectKey)
-                    .contentType(file.getContentType())
+                    .contentType(contentType)
+                    .contentLength(contentLength)
                     .build();
-            
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-            
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(in, contentLength));
             return generatePublicUrl(objectKey);
+        } finally {
+            uploadPermits.release();
+        }
+    }
+    
+    private void acquireUploadPermit() {
+        try {
+            if (!uploadPermits.tryAcquire(s3Properties.getUploadPermitTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("업로드 슬롯 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 슬롯 대기 중 중단됨", e);
         }
     }
+    
+    // S3 객체 크기 조회 (HEAD, 본문 미전송)
+    public long getObjectSize(String objectKey) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(s3Properties.getBucketName())
+                .key(objectKey)
+                .build();
+        return s3Client.headObject(headObjectRequest).contentLength();
+    }
+    
+    // S3 객체 전체 다운로드 (축소본 생성용, 호출 전 getObjectSize로 크기 확인)
+    public byte[] downloadBytes(String objectKey) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(s3Properties.getBucketName())
+                .key(objectKey)
+                .build();
+        return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+    }
+    
+    // 메모리의 바이트 업로드 (서버에서 생성한 축소본 등)
+    public void uploadBytes(String objectKey, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(s3Properties.getBucketName())
+                .key(objectKey)
+                .contentType(contentType)
+                .build();
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+    }
 }
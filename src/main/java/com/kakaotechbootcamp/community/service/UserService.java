@@ -4,6 +4,7 @@ import com.kakaotechbootcamp.community.common.ApiResponse;
 import com.kakaotechbootcamp.community.common.Constants;
 import com.kakaotechbootcamp.community.common.ImageType;
 import com.kakaotechbootcamp.community.common.ImageProperties;
+import com.kakaotechbootcamp.community.common.ImageSignature;
 import com.kakaotechbootcamp.community.config.JwtProperties;
 import com.kakaotechbootcamp.community.dto.user.*;
 import com.kakaotechbootcamp.community.entity.RefreshToken;
@@ -23,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Map;
 
@@ -37,7 +40,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final ImageUploadService imageUploadService;
-    private final S3Service s3Service;
+    private final ProfileImageUploadService profileImageUploadService;
     private final ImageProperties imageProperties;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
@@ -50,7 +53,7 @@ public class UserService {
     /**
      * 회원가입
      * - 의도: 이메일/닉네임 중복 검사 후 사용자 생성
-     * - 로직: profileImage가 제공되면 백엔드에서 직접 S3에 업로드 후 설정
+     * - 로직: profileImage가 제공되면 매직 바이트로 형식 판별 후 커밋 이후 비동기 업로드 (응답의 profileImagePending=true)
      * - 에러: 중복 시 409(Conflict)
      */
     @Transactional
@@ -64,36 +67,32 @@ public class UserService {
         User user = new User(email, passwordEncoder.encode(request.getPassword()), nickname);
         User saved = userRepository.save(user);
 
-        // 프로필 이미지가 있으면 백엔드에서 직접 S3에 업로드
+        // 프로필 이미지가 있으면 검증 후 임시 파일로 옮기고, 업로드는 커밋 이후 비동기로 진행
+        boolean profileImagePending = false;
         if (profileImage != null && !profileImage.isEmpty()) {
-            try {
-                // 파일 검증
-                if (profileImage.getSize() > imageProperties.getMaxSizeBytes()) {
-                    throw new BadRequestException("이미지 최대 크기 " + imageProperties.getMaxSizeBytes() + "바이트를 초과했습니다");
-                }
-                
-                // 확장자 검증
-                String contentType = profileImage.getContentType();
-                String extension = imageProperties.extractExtensionFromContentType(contentType);
-                if (extension == null || !imageProperties.getAllowedExtensionSet().contains(extension)) {
+            // 파일 검증
+            if (profileImage.getSize() > imageProperties.getMaxSizeBytes()) {
+                throw new BadRequestException("이미지 최대 크기 " + imageProperties.getMaxSizeBytes() + "바이트를 초과했습니다");
+            }
+
+            try (PushbackInputStream in = new PushbackInputStream(profileImage.getInputStream(), ImageSignature.HEADER_LENGTH)) {
+                // 형식 검증: Content-Type/파일명 대신 첫 바이트(매직 바이트)로 판별
+                ImageSignature signature = ImageSignature.sniff(in);
+                if (signature == null || !imageProperties.getAllowedExtensionSet().contains(signature.extension())) {
                     throw new BadRequestException("지원하지 않는 이미지 형식입니다. (" + imageProperties.getAllowedExtensionsAsString() + "만 가능)");
                 }
-                
-                // objectKey 생성
-                String objectKey = imageUploadService.generateObjectKey(ImageType.PROFILE, saved.getId(), profileImage.getOriginalFilename());
-                
-                // S3에 업로드
-                s3Service.uploadFile(objectKey, profileImage);
-                
-                // 사용자에 profileImageKey 설정
-                saved.updateProfileImageKey(objectKey);
-                userRepository.save(saved);
+
+                // objectKey 생성 (확장자는 판별된 형식 기준), 업로드 완료 시 profileImageKey 설정
+                String objectKey = imageUploadService.generateObjectKey(ImageType.PROFILE, saved.getId(), "profile." + signature.extension());
+                Path staged = profileImageUploadService.stage(in);
+                profileImageUploadService.uploadAfterCommit(saved.getId(), objectKey, staged, signature.contentType());
+                profileImagePending = true;
             } catch (IOException e) {
                 throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다", e);
             }
         }
 
-        return ApiResponse.created(UserResponseDto.from(saved));
+        return ApiResponse.created(UserResponseDto.from(saved, profileImagePending));
     }
 
     /**
@@ -148,7 +147,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public ApiResponse<UserResponseDto> getById(Integer id) {
-        return ApiResponse.modified(UserResponseDto.from(findUserById(id)));
+        return ApiResponse.modified(UserResponseDto.from(findUserById(id), profileImageUploadService.isPending(id)));
     }
 
     /**
@@ -0,0 +1,34 @@
+-- 게시글 본문 분리: post.content → post_content
+-- - 대상: MySQL 8.0 (운영은 ddl-auto: none, 애플리케이션 배포 전에 실행)
+-- - 순서: post_content 생성 → 기존 본문 복사(소프트 삭제 게시글 포함) → post.post_content_id 채움
+--         → NOT NULL/UNIQUE/FK 설정 → post.content 삭제
+-- - 확인: 마지막 단계 전 "SELECT COUNT(*) FROM post WHERE post_content_id IS NULL" 결과가 0이어야 함
+
+CREATE TABLE post_content (
+    post_content_id INT      NOT NULL AUTO_INCREMENT,
+    content         LONGTEXT NOT NULL,
+    source_post_id  INT      NULL, -- 이관용 임시 컬럼 (게시글 ↔ 본문 매핑)
+    PRIMARY KEY (post_content_id),
+    UNIQUE KEY uk_post_content_source_post_id (source_post_id)
+) ENGINE = InnoDB;
+
+INSERT INTO post_content (content, source_post_id)
+SELECT p.content, p.post_id
+FROM post p;
+
+ALTER TABLE post ADD COLUMN post_content_id INT NULL;
+
+UPDATE post p
+    JOIN post_content pc ON pc.source_post_id = p.post_id
+SET p.post_content_id = pc.post_content_id;
+
+ALTER TABLE post
+    MODIFY COLUMN post_content_id INT NOT NULL,
+    ADD CONSTRAINT uk_post_post_content_id UNIQUE (post_content_id),
+    ADD CONSTRAINT fk_post_post_content FOREIGN KEY (post_content_id) REFERENCES post_content (post_content_id);
+
+ALTER TABLE post_content
+    DROP INDEX uk_post_content_source_post_id,
+    DROP COLUMN source_post_id;
+
+ALTER TABLE post DROP COLUMN content;
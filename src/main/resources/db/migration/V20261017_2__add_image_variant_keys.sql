@@ -0,0 +1,11 @@
+-- 이미지 축소본(variant) objectKey 컬럼 추가
+-- - 대상: MySQL 8.0 (운영은 ddl-auto: none, 애플리케이션 배포 전에 실행)
+-- - 기존 행은 NULL (축소본 없음 → 목록은 원본 objectKey 사용)
+
+ALTER TABLE post_image
+    ADD COLUMN thumbnail_object_key VARCHAR(1024) NULL,
+    ADD COLUMN medium_object_key    VARCHAR(1024) NULL;
+
+ALTER TABLE product_image
+    ADD COLUMN thumbnail_object_key VARCHAR(1024) NULL,
+    ADD COLUMN medium_object_key    VARCHAR(1024) NULL;
@@ -0,0 +1,5 @@
+-- 게시글 목록 커서 조회 인덱스
+-- - 대상: MySQL 8.0 (운영은 ddl-auto: none, 애플리케이션 배포 전에 실행)
+-- - 용도: deleted_at IS NULL 범위에서 post_id 역순 커서 스캔 (PostRepository 목록 쿼리)
+
+CREATE INDEX idx_post_deleted_at_post_id ON post (deleted_at, post_id);
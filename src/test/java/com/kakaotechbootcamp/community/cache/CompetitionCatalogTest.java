@@ -0,0 +1,162 @@
+package com.kakaotechbootcamp.community.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaotechbootcamp.community.common.Constants;
+import com.kakaotechbootcamp.community.config.CacheProperties;
+import com.kakaotechbootcamp.community.config.CompetitionProperties;
+import com.kakaotechbootcamp.community.dto.competition.CompetitionListItemDto;
+import com.kakaotechbootcamp.community.entity.CompetitionStatus;
+import com.kakaotechbootcamp.community.entity.CompetitionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수영대회 메모리 카탈로그 테스트
+ * - 임시 JSON 파일을 file: 위치로 지정
+ */
+class CompetitionCatalogTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 1);
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private JsonResponseCache jsonResponseCache;
+    private CompetitionCatalog catalog;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = tempDir.resolve("competitions.json");
+        write("""
+                [
+                  {"type": "OFFICIAL", "name": "B", "eventDate": "2024-03-02", "startTime": "10:00"},
+                  {"type": "MASTERS", "name": "A", "eventDate": "2024-03-02", "startTime": "09:00"},
+                  {"type": "MASTERS", "name": "C", "eventDate": "2024-01-20"},
+                  {"type": "REGIONAL", "name": "D", "eventDate": "2025-03-15", "endDate": "2025-03-16"},
+                  {"type": "MASTERS", "name": "E", "eventDate": "2024-12-31"}
+                ]
+                """, 1_000);
+
+        CompetitionProperties properties = new CompetitionProperties();
+        properties.setCatalogLocation(file.toUri().toString());
+        jsonResponseCache = new JsonResponseCache(new CacheProperties());
+        catalog = new CompetitionCatalog(new ObjectMapper(), new DefaultResourceLoader(), properties, jsonResponseCache);
+        catalog.init();
+    }
+
+    @Test
+    @DisplayName("전체 조회는 날짜 → 시작 시간 순으로 정렬")
+    void find_withoutFilter_returnsSorted() {
+        assertThat(names(catalog.find(null, null, null, TODAY))).containsExactly("C", "A", "B", "E", "D");
+    }
+
+    @Test
+    @DisplayName("연/월/유형 필터는 해당 구간만 반환")
+    void find_withFilters_returnsRange() {
+        assertThat(names(catalog.find(2024, null, null, TODAY))).containsExactly("C", "A", "B", "E");
+        assertThat(names(catalog.find(2024, 3, null, TODAY))).containsExactly("A", "B");
+        assertThat(names(catalog.find(2024, null, CompetitionType.MASTERS, TODAY))).containsExactly("C", "A", "E");
+        assertThat(names(catalog.find(null, 3, null, TODAY))).containsExactly("A", "B", "D");
+        assertThat(catalog.find(2023, null, null, TODAY)).isEmpty();
+        assertThat(catalog.find(2024, 13, null, TODAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파일이 바뀌면 다시 적재하고 대회 응답 캐시를 무효화")
+    void reloadIfModified_whenFileChanged_swapsSnapshot() throws IOException {
+        // given
+        long generation = generation();
+        catalog.reloadIfModified();
+        assertThat(generation()).isEqualTo(generation);
+
+        // when
+        write("""
+                [{"type": "OFFICIAL", "name": "F", "eventDate": "2026-05-05"}]
+                """, 2_000);
+        catalog.reloadIfModified();
+
+        // then
+        assertThat(names(catalog.find(null, null, null, TODAY))).containsExactly("F");
+        assertThat(generation()).isGreaterThan(generation);
+    }
+
+    @Test
+    @DisplayName("파싱 실패 시 이전 스냅샷 유지")
+    void reloadIfModified_whenInvalid_keepsPrevious() throws IOException {
+        // when
+        write("[{\"type\": \"OFFICIAL\", \"name\": \"X\", \"eventDate\": \"2026/05/05\"}]", 2_000);
+        catalog.reloadIfModified();
+
+        // then
+        assertThat(catalog.find(null, null, null, TODAY)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("상태는 시작일/종료일 다음 날을 경계로 UPCOMING → ONGOING → COMPLETED")
+    void find_statusFollowsBoundaries() {
+        // 정렬 순서: C(2024-01-20), A/B(2024-03-02), E(2024-12-31), D(2025-03-15~16)
+        assertThat(statuses(LocalDate.of(2024, 3, 1))).containsExactly(
+                CompetitionStatus.COMPLETED, CompetitionStatus.UPCOMING, CompetitionStatus.UPCOMING,
+                CompetitionStatus.UPCOMING, CompetitionStatus.UPCOMING);
+        assertThat(statuses(LocalDate.of(2024, 3, 2))).containsExactly(
+                CompetitionStatus.COMPLETED, CompetitionStatus.ONGOING, CompetitionStatus.ONGOING,
+                CompetitionStatus.UPCOMING, CompetitionStatus.UPCOMING);
+        assertThat(statuses(LocalDate.of(2025, 3, 16))).containsExactly(
+                CompetitionStatus.COMPLETED, CompetitionStatus.COMPLETED, CompetitionStatus.COMPLETED,
+                CompetitionStatus.COMPLETED, CompetitionStatus.ONGOING);
+        assertThat(statuses(LocalDate.of(2025, 3, 17))).containsOnly(CompetitionStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("전환일을 지나지 않은 날짜는 같은 상태 배열을 재사용")
+    void find_betweenBoundaries_reusesItems() {
+        // when
+        List<CompetitionListItemDto> first = catalog.find(null, null, null, LocalDate.of(2024, 4, 1));
+        List<CompetitionListItemDto> second = catalog.find(null, null, null, LocalDate.of(2024, 6, 1));
+        List<CompetitionListItemDto> afterBoundary = catalog.find(null, null, null, LocalDate.of(2024, 12, 31));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(afterBoundary).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("대회 목록 응답 캐시 키에는 오늘 날짜가 포함")
+    void responseCacheKey_isDayScoped() {
+        JsonResponseCache.Key key = jsonResponseCache.keyOf(
+                Constants.ApiPath.COMPETITIONS, Map.of("year", new String[]{"2024"}), null);
+        assertThat(key.day()).isEqualTo(LocalDate.now());
+    }
+
+    private void write(String json, long modifiedMillis) throws IOException {
+        Files.writeString(file, json);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochMilli(modifiedMillis)));
+    }
+
+    private long generation() {
+        return jsonResponseCache.keyOf(Constants.ApiPath.COMPETITIONS, Map.of(), null).generation();
+    }
+
+    private static List<String> names(List<CompetitionListItemDto> items) {
+        return items.stream().map(CompetitionListItemDto::name).toList();
+    }
+
+    private List<CompetitionStatus> statuses(LocalDate today) {
+        return catalog.find(null, null, null, today).stream().map(CompetitionListItemDto::status).toList();
+    }
+}
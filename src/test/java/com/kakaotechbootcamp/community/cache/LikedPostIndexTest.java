@@ -0,0 +1,66 @@
+package com.kakaotechbootcamp.community.cache;
+
+import com.kakaotechbootcamp.community.config.CacheProperties;
+import com.kakaotechbootcamp.community.repository.PostLikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 사용자별 좋아요 인덱스 메모리 계산 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LikedPostIndexTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Test
+    @DisplayName("적재 중 제거된 항목의 크기는 totalBytes에 더하지 않음")
+    void isLiked_whenEvictedWhileLoading_doesNotLeakBytes() {
+        // given: 상한이 작아 적재된 항목은 곧바로 제거됨
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getLikedPosts().setMaxBytes(1);
+        LikedPostIndex index = new LikedPostIndex(postLikeRepository, cacheProperties);
+
+        given(postLikeRepository.findPostIdsByUserId(2)).willReturn(List.of(10, 11, 12));
+        given(postLikeRepository.findPostIdsByUserId(1)).willAnswer(invocation -> {
+            // 사용자 1 적재 도중 사용자 2 적재 → 상한 초과로 사용자 1 항목까지 제거
+            index.isLiked(2, 10);
+            return List.of(1, 2, 3);
+        });
+
+        // when
+        boolean liked = index.isLiked(1, 1);
+
+        // then
+        assertThat(liked).isTrue();
+        LikedPostIndex.Metrics metrics = index.metrics();
+        assertThat(metrics.users()).isZero();
+        assertThat(metrics.totalBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 후 좋아요 변경은 크기 차이만큼 반영")
+    void apply_updatesTotalBytesForLoadedEntry() {
+        // given
+        LikedPostIndex index = new LikedPostIndex(postLikeRepository, new CacheProperties());
+        given(postLikeRepository.findPostIdsByUserId(1)).willReturn(List.of(1));
+        index.isLiked(1, 1);
+
+        // when: 트랜잭션 밖이므로 즉시 반영
+        index.onLikedAfterCommit(1, 2);
+
+        // then
+        assertThat(index.isLiked(1, 2)).isTrue();
+        assertThat(index.metrics().totalBytes()).isEqualTo(CompactIntSet.of(List.of(1, 2)).estimatedBytes());
+        assertThat(index.metrics().users()).isEqualTo(1);
+    }
+}
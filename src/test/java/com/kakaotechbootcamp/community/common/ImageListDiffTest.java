@@ -0,0 +1,93 @@
+package com.kakaotechbootcamp.community.common;
+
+import com.kakaotechbootcamp.community.common.ImageListDiff.Slot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 첨부 이미지 목록 diff 테스트
+ */
+class ImageListDiffTest {
+
+    private static final List<Slot> ATTACHED = List.of(
+            new Slot(1, "a.jpg", 0),
+            new Slot(2, "b.jpg", 1),
+            new Slot(3, "c.jpg", 2));
+
+    @Test
+    @DisplayName("목록이 같으면 빈 diff")
+    void of_whenUnchanged_isEmpty() {
+        ImageListDiff diff = ImageListDiff.of(ATTACHED, List.of("a.jpg", "b.jpg", "c.jpg"));
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.insertedKeys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 칸 이동은 위치가 바뀐 행만 순서 갱신")
+    void of_whenSingleMove_reordersShiftedRowsOnly() {
+        // when: c를 맨 앞으로
+        ImageListDiff diff = ImageListDiff.of(ATTACHED, List.of("c.jpg", "a.jpg", "b.jpg"));
+
+        // then
+        assertThat(diff.deletedIds()).isEmpty();
+        assertThat(diff.inserts()).isEmpty();
+        assertThat(diff.reorders()).containsExactly(
+                new Slot(3, "c.jpg", 0),
+                new Slot(1, "a.jpg", 1),
+                new Slot(2, "b.jpg", 2));
+    }
+
+    @Test
+    @DisplayName("중복 키는 앞에서부터 기존 행과 짝짓고 남는 쪽만 삽입/삭제")
+    void of_whenDuplicateKeys_pairsInOrder() {
+        // given
+        List<Slot> attached = List.of(
+                new Slot(1, "a.jpg", 0),
+                new Slot(2, "a.jpg", 1),
+                new Slot(3, "b.jpg", 2));
+
+        // when: a 하나 추가, b 제거
+        ImageListDiff grown = ImageListDiff.of(attached, List.of("a.jpg", "a.jpg", "a.jpg"));
+        // when: a 하나 제거
+        ImageListDiff shrunk = ImageListDiff.of(attached, List.of("a.jpg", "b.jpg"));
+
+        // then
+        assertThat(grown.deletedIds()).containsExactly(3);
+        assertThat(grown.inserts()).containsExactly(new Slot(null, "a.jpg", 2));
+        assertThat(grown.reorders()).isEmpty();
+
+        assertThat(shrunk.deletedIds()).containsExactly(2);
+        assertThat(shrunk.inserts()).isEmpty();
+        assertThat(shrunk.reorders()).containsExactly(new Slot(3, "b.jpg", 1));
+    }
+
+    @Test
+    @DisplayName("전체 제거는 기존 행 모두 삭제")
+    void of_whenAllRemoved_deletesEverything() {
+        ImageListDiff diff = ImageListDiff.of(ATTACHED, List.of());
+
+        assertThat(diff.deletedIds()).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(diff.inserts()).isEmpty();
+        assertThat(diff.reorders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("추가/삭제가 섞이면 삽입·삭제·순서 갱신을 함께 산출")
+    void of_whenMixed_combinesInsertDeleteAndReorder() {
+        // when: b 제거, d 추가, c 앞으로
+        ImageListDiff diff = ImageListDiff.of(ATTACHED, List.of("c.jpg", "d.jpg", "a.jpg"));
+
+        // then
+        assertThat(diff.deletedIds()).containsExactly(2);
+        assertThat(diff.inserts()).containsExactly(new Slot(null, "d.jpg", 1));
+        assertThat(diff.insertedKeys()).containsExactly("d.jpg");
+        assertThat(diff.reorders()).containsExactly(
+                new Slot(3, "c.jpg", 0),
+                new Slot(1, "a.jpg", 2));
+    }
+}
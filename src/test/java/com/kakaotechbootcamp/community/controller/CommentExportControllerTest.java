@@ -0,0 +1,84 @@
+package com.kakaotechbootcamp.community.controller;
+
+import com.kakaotechbootcamp.community.common.Constants;
+import com.kakaotechbootcamp.community.entity.Post;
+import com.kakaotechbootcamp.community.entity.User;
+import com.kakaotechbootcamp.community.jwt.JwtProvider;
+import com.kakaotechbootcamp.community.repository.PostRepository;
+import com.kakaotechbootcamp.community.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 댓글 내보내기 권한 테스트
+ * - JwtAuthFilter 포함 MockMvc로 비로그인/비작성자 차단 검증 (스트리밍 본문은 검증하지 않음)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CommentExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private User author;
+    private User other;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(new User("export-author@example.com", "encoded", "exportauthor"));
+        other = userRepository.save(new User("export-other@example.com", "encoded", "exportother"));
+        post = postRepository.save(new Post(author, "title", "content"));
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 401 (공개 GET에서 제외)")
+    void export_whenAnonymous_returns401() throws Exception {
+        mockMvc.perform(get(exportPath()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("게시글 작성자가 아니면 403")
+    void export_whenNotAuthor_returns403() throws Exception {
+        mockMvc.perform(get(exportPath()).header(Constants.Header.AUTHORIZATION, bearer(other)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("게시글 작성자는 스트리밍 시작")
+    void export_whenAuthor_startsStreaming() throws Exception {
+        mockMvc.perform(get(exportPath()).header(Constants.Header.AUTHORIZATION, bearer(author)))
+                .andExpect(request().asyncStarted());
+    }
+
+    private String exportPath() {
+        return Constants.ApiPath.POSTS + "/" + post.getId() + Constants.ApiPath.COMMENTS_EXPORT_SUFFIX;
+    }
+
+    private String bearer(User user) {
+        return Constants.Header.BEARER_PREFIX + jwtProvider.createAccessToken(user.getId().longValue(), JwtProvider.ROLE_USER);
+    }
+}
@@ -0,0 +1,188 @@
+package com.kakaotechbootcamp.community.filter;
+
+import com.jayway.jsonpath.JsonPath;
+import com.kakaotechbootcamp.community.cache.JsonResponseCache;
+import com.kakaotechbootcamp.community.cache.LruCache;
+import com.kakaotechbootcamp.community.common.Constants;
+import com.kakaotechbootcamp.community.entity.User;
+import com.kakaotechbootcamp.community.jwt.JwtProvider;
+import com.kakaotechbootcamp.community.repository.PostRepository;
+import com.kakaotechbootcamp.community.repository.PostStatRepository;
+import com.kakaotechbootcamp.community.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JSON 응답 캐시 필터 테스트
+ * - JwtAuthFilter 포함 MockMvc로 비회원 캐시 hit/304, 회원 우회, 쓰기 후 세대 무효화, 대회 목록 검증
+ * - 무효화가 커밋 후 실행되므로 @Transactional 미사용, 생성 데이터는 @AfterEach에서 정리
+ * - 캐시 빈은 컨텍스트 공유로 다른 테스트와 함께 쓰이므로 각 테스트 시작 시 세대를 올려 격리
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JsonResponseCacheFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonResponseCache jsonResponseCache;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatRepository postStatRepository;
+
+    private User user;
+    private final List<Integer> createdPostIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (JsonResponseCache.Group group : JsonResponseCache.Group.values()) {
+            jsonResponseCache.invalidate(group);
+        }
+        user = userRepository.save(new User("response-cache@example.com", "encoded", "respcache"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdPostIds.forEach(postId -> {
+            postStatRepository.deleteById(postId);
+            postRepository.deleteById(postId);
+        });
+        createdPostIds.clear();
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("비회원 목록은 캐시 후 같은 바이트로 응답하고, If-None-Match 일치 시 304")
+    void anonymousList_cachedWithEtag_andNotModified() throws Exception {
+        // given
+        String body = mockMvc.perform(get(Constants.ApiPath.POSTS))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getContentAsString();
+        String etag = anonymousEtag(Constants.ApiPath.POSTS);
+        long hits = jsonResponseCache.stats().hits();
+
+        // when & then: 캐시 hit는 컨트롤러를 거치지 않고 같은 본문/ETag
+        mockMvc.perform(get(Constants.ApiPath.POSTS))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().json(body, true));
+
+        mockMvc.perform(get(Constants.ApiPath.POSTS).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        assertThat(jsonResponseCache.stats().hits()).isEqualTo(hits + 2);
+    }
+
+    @Test
+    @DisplayName("회원 요청은 캐시를 조회/저장하지 않음")
+    void authenticatedList_bypassesCache() throws Exception {
+        // given
+        LruCache.CacheStats before = jsonResponseCache.stats();
+
+        // when & then
+        mockMvc.perform(get(Constants.ApiPath.POSTS).header(Constants.Header.AUTHORIZATION, bearer(user)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        LruCache.CacheStats after = jsonResponseCache.stats();
+        assertThat(after.hits()).isEqualTo(before.hits());
+        assertThat(after.misses()).isEqualTo(before.misses());
+        assertThat(jsonResponseCache.get(keyOf(Constants.ApiPath.POSTS))).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 작성 커밋 후 세대가 바뀌어 이전 ETag로 304가 나지 않고 새 목록 응답")
+    void postCreate_invalidatesCachedList() throws Exception {
+        // given
+        mockMvc.perform(get(Constants.ApiPath.POSTS)).andExpect(status().isOk());
+        String staleEtag = anonymousEtag(Constants.ApiPath.POSTS);
+        JsonResponseCache.Key staleKey = keyOf(Constants.ApiPath.POSTS);
+
+        // when
+        String created = mockMvc.perform(post(Constants.ApiPath.POSTS)
+                        .header(Constants.Header.AUTHORIZATION, bearer(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + user.getId() + ",\"title\":\"cached title\",\"content\":\"content\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer postId = JsonPath.read(created, "$.data.postId");
+        createdPostIds.add(postId);
+
+        // then
+        assertThat(keyOf(Constants.ApiPath.POSTS).generation()).isGreaterThan(staleKey.generation());
+        String etag = mockMvc.perform(get(Constants.ApiPath.POSTS).header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotEqualTo(staleEtag);
+        assertThat(jsonResponseCache.get(keyOf(Constants.ApiPath.POSTS))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("대회 목록도 같은 필터로 캐시하며, 키에 오늘 날짜를 포함해 별도 캐시에 저장")
+    void competitionList_cachedPerDay() throws Exception {
+        // given
+        mockMvc.perform(get(Constants.ApiPath.COMPETITIONS))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        String etag = anonymousEtag(Constants.ApiPath.COMPETITIONS);
+        long hits = jsonResponseCache.competitionStats().hits();
+
+        // when & then
+        mockMvc.perform(get(Constants.ApiPath.COMPETITIONS).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        JsonResponseCache.Key key = keyOf(Constants.ApiPath.COMPETITIONS);
+        assertThat(key.day()).isEqualTo(LocalDate.now());
+        assertThat(keyOf(Constants.ApiPath.POSTS).day()).isNull();
+        assertThat(jsonResponseCache.competitionStats().hits()).isEqualTo(hits + 1);
+    }
+
+    private JsonResponseCache.Key keyOf(String path) {
+        return jsonResponseCache.keyOf(path, Map.of(), null);
+    }
+
+    private String anonymousEtag(String path) {
+        JsonResponseCache.CachedResponse cached = jsonResponseCache.get(keyOf(path));
+        assertThat(cached).isNotNull();
+        return cached.etag();
+    }
+
+    private String bearer(User user) {
+        return Constants.Header.BEARER_PREFIX + jwtProvider.createAccessToken(user.getId().longValue(), JwtProvider.ROLE_USER);
+    }
+}
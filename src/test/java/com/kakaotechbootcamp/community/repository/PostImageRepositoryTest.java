@@ -0,0 +1,89 @@
+package com.kakaotechbootcamp.community.repository;
+
+import com.kakaotechbootcamp.community.common.ImageListDiff;
+import com.kakaotechbootcamp.community.common.ImageListDiff.Slot;
+import com.kakaotechbootcamp.community.entity.Post;
+import com.kakaotechbootcamp.community.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 이미지 일괄 쿼리 테스트 (H2)
+ * - 다중 행 INSERT / CASE 식 UPDATE 가 의도한 행만 바꾸는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PostImageRepositoryTest {
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Integer postId;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(new User("post-image@example.com", "encoded", "postimage"));
+        postId = postRepository.save(new Post(author, "title", "content")).getId();
+        postImageRepository.insertAll(postId, List.of("a.jpg", "b.jpg", "c.jpg", "d.jpg"));
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("CASE 식 UPDATE는 지정한 행의 순서만 바꿈")
+    void updateDisplayOrders_updatesListedRowsOnly() {
+        // given: a ↔ c 교환
+        List<Slot> before = postImageRepository.findSlotsByPostId(postId);
+        ImageListDiff diff = ImageListDiff.of(before, List.of("c.jpg", "b.jpg", "a.jpg", "d.jpg"));
+
+        // when
+        int updated = postImageRepository.updateDisplayOrders(diff.reorders());
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        List<Slot> after = postImageRepository.findSlotsByPostId(postId);
+        assertThat(after).extracting(Slot::objectKey).containsExactly("c.jpg", "b.jpg", "a.jpg", "d.jpg");
+        assertThat(after).extracting(Slot::displayOrder).containsExactly(0, 1, 2, 3);
+        assertThat(after).extracting(Slot::imageId).containsExactly(
+                before.get(2).imageId(), before.get(1).imageId(), before.get(0).imageId(), before.get(3).imageId());
+    }
+
+    @Test
+    @DisplayName("diff 적용 후 목록은 요청한 objectKey 순서와 일치")
+    void applyDiff_matchesRequestedOrder() {
+        // given: b 제거, e 추가, d 맨 앞으로
+        List<String> requested = List.of("d.jpg", "a.jpg", "e.jpg", "c.jpg");
+        ImageListDiff diff = ImageListDiff.of(postImageRepository.findSlotsByPostId(postId), requested);
+
+        // when
+        postImageRepository.deleteAllByIdInBatch(diff.deletedIds());
+        postImageRepository.updateDisplayOrders(diff.reorders());
+        postImageRepository.insertSlots(postId, diff.inserts());
+        entityManager.clear();
+
+        // then
+        assertThat(postImageRepository.findSlotsByPostId(postId))
+                .extracting(Slot::objectKey)
+                .containsExactlyElementsOf(requested);
+    }
+}
@@ -0,0 +1,261 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.dto.comment.CommentCursorResponseDto;
+import com.kakaotechbootcamp.community.dto.comment.CommentRequestDto;
+import com.kakaotechbootcamp.community.dto.comment.CommentResponseDto;
+import com.kakaotechbootcamp.community.dto.comment.CommentTreeDto;
+import com.kakaotechbootcamp.community.dto.product.ProductCommentRequestDto;
+import com.kakaotechbootcamp.community.dto.product.ProductCommentResponseDto;
+import com.kakaotechbootcamp.community.entity.Comment;
+import com.kakaotechbootcamp.community.entity.Post;
+import com.kakaotechbootcamp.community.entity.PostLike;
+import com.kakaotechbootcamp.community.entity.PostStat;
+import com.kakaotechbootcamp.community.entity.Product;
+import com.kakaotechbootcamp.community.entity.ProductComment;
+import com.kakaotechbootcamp.community.entity.ProductStatus;
+import com.kakaotechbootcamp.community.entity.User;
+import com.kakaotechbootcamp.community.exception.NotFoundException;
+import com.kakaotechbootcamp.community.repository.CommentRepository;
+import com.kakaotechbootcamp.community.repository.PostLikeRepository;
+import com.kakaotechbootcamp.community.repository.PostRepository;
+import com.kakaotechbootcamp.community.repository.PostStatRepository;
+import com.kakaotechbootcamp.community.repository.ProductCommentRepository;
+import com.kakaotechbootcamp.community.repository.ProductRepository;
+import com.kakaotechbootcamp.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쓰기 경로 쿼리 수 테스트 (변경 전 경로를 같은 데이터로 재현해 비교)
+ * - 댓글/상품 댓글: 기존 대상 findById + 사용자 findById + INSERT = 3회 → 존재 확인 프로젝션 + INSERT = 2회
+ * - 좋아요: 기존 게시글 findById + exists + 통계 조회 + merge SELECT + INSERT = 5회 → 조건부 INSERT + like_count 조회 = 2회
+ * - 댓글 트리: 루트 + 답글 id + 답글/루트 작성자 = 3회 (삭제된 루트 자리 유지 포함)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ProductCommentService productCommentService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCommentRepository productCommentRepository;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostStatRepository postStatRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User author;
+    private Post post;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        author = userRepository.save(new User("comment-count@example.com", "encoded", "commentcount"));
+        post = postRepository.save(new Post(author, "title", "content"));
+        postStatRepository.save(new PostStat(post));
+        product = productRepository.save(new Product(author, "title", "content", 1000, "기타", "서울", ProductStatus.SELLING));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 작성은 존재 확인 1회 + INSERT 1회")
+    void create_rootCommentRunsTwoStatements() {
+        // given
+        CommentRequestDto request = request(null, "첫 댓글");
+
+        // when
+        entityManager.clear();
+        statistics.clear();
+        CommentResponseDto created = commentService.create(post.getId(), author.getId(), request).getData();
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+
+        // then: 응답 작성자 정보는 프로젝션 값 사용 (사용자 프록시 미초기화)
+        assertThat(statements).isEqualTo(2);
+        assertThat(created.author().nickname()).isEqualTo("commentcount");
+    }
+
+    @Test
+    @DisplayName("댓글 작성: 변경 전 3회 → 변경 후 2회")
+    void create_comparedWithFindByIdPath() {
+        // when: 변경 전 경로 (게시글/사용자 엔티티 적재 후 저장)
+        long before = countStatements(() -> {
+            Post loadedPost = postRepository.findById(post.getId()).orElseThrow();
+            User loadedUser = userRepository.findById(author.getId()).orElseThrow();
+            commentRepository.save(new Comment(loadedPost, loadedUser, null, "이전 경로", 0));
+        });
+        long after = countStatements(() -> commentService.create(post.getId(), author.getId(), request(null, "참조 경로")));
+
+        // then
+        assertThat(before).isEqualTo(3);
+        assertThat(after).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 댓글 작성: 변경 전 3회 → 변경 후 2회")
+    void createProductComment_comparedWithFindByIdPath() {
+        // when
+        long before = countStatements(() -> {
+            Product loadedProduct = productRepository.findById(product.getId()).orElseThrow();
+            User loadedUser = userRepository.findById(author.getId()).orElseThrow();
+            productCommentRepository.save(new ProductComment(loadedProduct, loadedUser, null, "이전 경로", 0));
+        });
+        ProductCommentResponseDto[] created = new ProductCommentResponseDto[1];
+        long after = countStatements(() -> created[0] = productCommentService
+                .create(product.getId(), author.getId(), productRequest("참조 경로")).getData());
+
+        // then
+        assertThat(before).isEqualTo(3);
+        assertThat(after).isEqualTo(2);
+        assertThat(created[0].author().nickname()).isEqualTo("commentcount");
+    }
+
+    @Test
+    @DisplayName("좋아요 등록: 변경 전 5회 → 변경 후 2회")
+    void saveLike_comparedWithReadBeforeWritePath() {
+        // given
+        User liker = userRepository.save(new User("like-count@example.com", "encoded", "likecount"));
+        entityManager.flush();
+
+        // when: 변경 전 경로 (게시글 조회 → 좋아요 여부 → 통계 조회 → save(merge))
+        long before = countStatements(() -> {
+            postRepository.findById(post.getId()).orElseThrow();
+            boolean exists = postLikeRepository.existsByIdPostIdAndIdUserId(post.getId(), author.getId());
+            postStatRepository.findById(post.getId()).orElseThrow();
+            if (!exists) {
+                postLikeRepository.save(new PostLike(author.getId(), post.getId()));
+            }
+        });
+        long after = countStatements(() -> postLikeService.saveLike(liker.getId(), post.getId()));
+
+        // then
+        assertThat(before).isEqualTo(5);
+        assertThat(after).isEqualTo(2);
+        assertThat(postLikeRepository.existsByIdPostIdAndIdUserId(post.getId(), liker.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("대댓글 작성은 부모 조회 1회만 추가")
+    void create_replyAddsParentLookupOnly() {
+        // given
+        Integer parentId = commentService.create(post.getId(), author.getId(), request(null, "부모")).getData().commentId();
+        entityManager.flush();
+
+        // when
+        entityManager.clear();
+        statistics.clear();
+        commentService.create(post.getId(), author.getId(), request(parentId, "답글"));
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 게시글 404, 사용자가 없으면 사용자 404")
+    void create_missingTargetKeepsErrorMessage() {
+        assertThatThrownBy(() -> commentService.create(Integer.MAX_VALUE, author.getId(), request(null, "내용")))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("게시글을 찾을 수 없습니다");
+        assertThatThrownBy(() -> commentService.create(post.getId(), Integer.MAX_VALUE, request(null, "내용")))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("사용자를 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("살아있는 답글이 있는 삭제 루트는 마스킹된 자리로 트리에 남고 답글 이어보기도 가능")
+    void listTree_keepsDeletedRootWithLiveReplies() {
+        // given
+        Integer deletedRoot = commentService.create(post.getId(), author.getId(), request(null, "삭제될 루트")).getData().commentId();
+        Integer reply = commentService.create(post.getId(), author.getId(), request(deletedRoot, "답글")).getData().commentId();
+        Integer emptyRoot = commentService.create(post.getId(), author.getId(), request(null, "답글 없는 루트")).getData().commentId();
+        Integer liveRoot = commentService.create(post.getId(), author.getId(), request(null, "루트")).getData().commentId();
+        commentService.delete(deletedRoot);
+        commentService.delete(emptyRoot);
+        entityManager.flush();
+
+        // when
+        entityManager.clear();
+        statistics.clear();
+        CommentTreeDto tree = commentService.listTree(post.getId(), null, null, null).getData();
+        long statements = statistics.getPrepareStatementCount();
+
+        // then: 답글 없는 삭제 루트는 제외
+        assertThat(statements).isEqualTo(3);
+        assertThat(tree.comments()).extracting(CommentResponseDto::commentId).containsExactly(deletedRoot, reply, liveRoot);
+        CommentResponseDto placeholder = tree.comments().get(0);
+        assertThat(placeholder.content()).isEqualTo(CommentResponseDto.DELETED_CONTENT);
+        assertThat(placeholder.author()).isNull();
+        assertThat(tree.comments().get(2).author().nickname()).isEqualTo("commentcount");
+
+        CommentCursorResponseDto replies = commentService.listReplies(post.getId(), deletedRoot, null, null).getData();
+        assertThat(replies.items()).extracting(CommentResponseDto::commentId).containsExactly(reply);
+    }
+
+    // 영속성 컨텍스트를 비운 상태에서 action 실행 후 flush까지의 PreparedStatement 수
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ProductCommentRequestDto productRequest(String content) {
+        ProductCommentRequestDto request = new ProductCommentRequestDto();
+        ReflectionTestUtils.setField(request, "content", content);
+        return request;
+    }
+
+    private CommentRequestDto request(Integer parentId, String content) {
+        CommentRequestDto request = new CommentRequestDto();
+        ReflectionTestUtils.setField(request, "postId", post.getId());
+        ReflectionTestUtils.setField(request, "parentId", parentId);
+        ReflectionTestUtils.setField(request, "content", content);
+        return request;
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -152,5 +153,48 @@ class ImageUploadServiceTest {
             assertThat(objectKey).doesNotContain("../");
         }
     }
-}
 
+    @Nested
+    @DisplayName("objectKey 일괄 검증")
+    class BatchObjectKeyValidationTest {
+
+        @Test
+        @DisplayName("여러 objectKey 검증 시 리소스 존재 확인은 1회")
+        void validateObjectKeys_checksResourceOnce() {
+            // given
+            given(imageProperties.getPostPathFormat()).willReturn("post/%d/images/%s");
+            given(postRepository.existsById(1)).willReturn(true);
+            List<String> keys = List.of("post/1/images/a.jpg", "post/1/images/b.png", "post/1/images/c.webp");
+
+            // when
+            imageUploadService.validateObjectKeys(ImageType.POST, keys, 1);
+
+            // then
+            then(postRepository).should(times(1)).existsById(1);
+        }
+
+        @Test
+        @DisplayName("목록 중 하나라도 경로가 다르면 예외 발생")
+        void validateObjectKeys_whenAnyInvalidPath_throwsBadRequestException() {
+            // given
+            given(imageProperties.getPostPathFormat()).willReturn("post/%d/images/%s");
+            given(postRepository.existsById(1)).willReturn(true);
+            List<String> keys = List.of("post/1/images/a.jpg", "post/2/images/b.jpg");
+
+            // when // then
+            assertThatThrownBy(() -> imageUploadService.validateObjectKeys(ImageType.POST, keys, 1))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("로 시작해야 합니다");
+        }
+
+        @Test
+        @DisplayName("빈 목록은 리소스 조회 없이 통과")
+        void validateObjectKeys_whenEmpty_skipsExistenceCheck() {
+            // when
+            imageUploadService.validateObjectKeys(ImageType.POST, List.of(), 1);
+
+            // then
+            then(postRepository).shouldHaveNoInteractions();
+        }
+    }
+}
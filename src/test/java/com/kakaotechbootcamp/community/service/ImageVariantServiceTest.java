@@ -0,0 +1,189 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.common.ImageProperties;
+import com.kakaotechbootcamp.community.common.ImageType;
+import com.kakaotechbootcamp.community.repository.PostImageRepository;
+import com.kakaotechbootcamp.community.repository.ProductImageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+/**
+ * 이미지 축소본 생성 테스트
+ * - S3Service를 객체 저장소 대역(mock)으로 사용
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    private static final long MAX_SIZE_BYTES = 5 * 1024 * 1024;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private PostImageRepository postImageRepository;
+
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ImageProperties imageProperties;
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        imageProperties = new ImageProperties();
+        imageProperties.setMaxSizeBytes(MAX_SIZE_BYTES);
+        imageVariantService = newService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.shutdown();
+    }
+
+    @Test
+    @DisplayName("큰 이미지는 200px/640px JPEG 축소본을 업로드하고 키를 기록")
+    void process_whenLargeImage_uploadsResizedVariants() throws IOException {
+        // given
+        String objectKey = "product/1/images/photo.png";
+        stubObject(objectKey, png(1000, 500));
+        runTransactionInline();
+
+        // when
+        imageVariantService.process(ImageType.PRODUCT, 1, objectKey);
+
+        // then
+        ArgumentCaptor<byte[]> thumbnail = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> medium = ArgumentCaptor.forClass(byte[].class);
+        then(s3Service).should().uploadBytes(eq("product/1/images/photo_w200.jpg"), thumbnail.capture(), eq("image/jpeg"));
+        then(s3Service).should().uploadBytes(eq("product/1/images/photo_w640.jpg"), medium.capture(), eq("image/jpeg"));
+        assertThat(ImageIO.read(new ByteArrayInputStream(thumbnail.getValue())).getWidth()).isEqualTo(200);
+        assertThat(ImageIO.read(new ByteArrayInputStream(medium.getValue())).getHeight()).isEqualTo(320);
+        then(productImageRepository).should().updateVariantKeys(1, objectKey,
+                "product/1/images/photo_w200.jpg", "product/1/images/photo_w640.jpg");
+    }
+
+    @Test
+    @DisplayName("목표 너비보다 작은 이미지는 업로드 없이 원본 키 기록")
+    void process_whenSmallImage_reusesOriginalKey() throws IOException {
+        // given
+        String objectKey = "post/1/images/icon.png";
+        stubObject(objectKey, png(150, 100));
+        runTransactionInline();
+
+        // when
+        imageVariantService.process(ImageType.POST, 1, objectKey);
+
+        // then
+        then(s3Service).should(never()).uploadBytes(anyString(), any(), anyString());
+        then(postImageRepository).should().updateVariantKeys(1, objectKey, objectKey, objectKey);
+    }
+
+    @Test
+    @DisplayName("ImageIO가 읽지 못하는 형식은 건너뜀")
+    void process_whenUnsupportedFormat_skips() throws IOException {
+        // given
+        stubObject("post/1/images/a.webp", new byte[]{1, 2, 3});
+
+        // when
+        imageVariantService.process(ImageType.POST, 1, "post/1/images/a.webp");
+
+        // then
+        then(s3Service).should(never()).uploadBytes(anyString(), any(), anyString());
+        then(postImageRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("image.max-size-bytes를 넘는 원본은 다운로드하지 않고 건너뜀")
+    void process_whenObjectTooLarge_skipsWithoutDownload() throws IOException {
+        // given: presigned PUT으로 상한보다 큰 파일이 올라온 경우
+        given(s3Service.getObjectSize("post/1/images/huge.png")).willReturn(MAX_SIZE_BYTES + 1);
+
+        // when
+        imageVariantService.process(ImageType.POST, 1, "post/1/images/huge.png");
+
+        // then
+        then(s3Service).should(never()).downloadBytes(anyString());
+        then(s3Service).should(never()).uploadBytes(anyString(), any(), anyString());
+        then(postImageRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("픽셀 수 상한을 넘는 이미지는 디코딩 없이 건너뜀")
+    void process_whenTooManyPixels_skips() throws IOException {
+        // given: 파일은 작지만 픽셀 수가 큰 이미지 (압축률이 높은 단색 PNG)
+        imageVariantService.shutdown();
+        imageProperties.getVariant().setMaxPixels(1_000_000);
+        imageVariantService = newService();
+        stubObject("post/1/images/wide.png", png(2000, 1000));
+
+        // when
+        imageVariantService.process(ImageType.POST, 1, "post/1/images/wide.png");
+
+        // then
+        then(s3Service).should(never()).uploadBytes(anyString(), any(), anyString());
+        then(postImageRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("축소본 키는 원본 경로 prefix를 유지")
+    void variantKey_keepsPathPrefix() {
+        assertThat(ImageVariantService.variantKey("post/3/images/a.b.png", 200)).isEqualTo("post/3/images/a.b_w200.jpg");
+        assertThat(ImageVariantService.variantKey("post/3/images/noext", 640)).isEqualTo("post/3/images/noext_w640.jpg");
+    }
+
+    private ImageVariantService newService() {
+        return new ImageVariantService(
+                s3Service,
+                postImageRepository,
+                productImageRepository,
+                transactionTemplate,
+                imageProperties
+        );
+    }
+
+    private void stubObject(String objectKey, byte[] bytes) {
+        given(s3Service.getObjectSize(objectKey)).willReturn((long) bytes.length);
+        given(s3Service.downloadBytes(objectKey)).willReturn(bytes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionInline() {
+        willAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+}
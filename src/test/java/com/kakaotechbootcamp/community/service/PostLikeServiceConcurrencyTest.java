@@ -0,0 +1,155 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.entity.Post;
+import com.kakaotechbootcamp.community.entity.PostLikeId;
+import com.kakaotechbootcamp.community.entity.PostStat;
+import com.kakaotechbootcamp.community.entity.User;
+import com.kakaotechbootcamp.community.exception.NotFoundException;
+import com.kakaotechbootcamp.community.repository.PostLikeRepository;
+import com.kakaotechbootcamp.community.repository.PostRepository;
+import com.kakaotechbootcamp.community.repository.PostStatRepository;
+import com.kakaotechbootcamp.community.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 좋아요 동시성 테스트
+ * - 한 게시글에 여러 스레드가 동시에 좋아요/취소(중복 클릭 포함)를 요청해도
+ *   좋아요 행 수와 like_count가 사용자 수와 일치하는지 검증
+ * - 스레드별 트랜잭션 커밋이 필요하므로 @Transactional 미사용, 생성 데이터는 @AfterEach에서 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PostLikeServiceConcurrencyTest {
+
+    private static final int USER_COUNT = 20;
+    private static final int CLICKS_PER_USER = 3;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostStatAsyncService postStatAsyncService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatRepository postStatRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(new User("like-" + i + "@example.com", "encoded", "liker" + i)));
+        }
+        post = postRepository.save(new Post(users.get(0), "title", "content"));
+        postStatRepository.save(new PostStat(post));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postStatAsyncService.flush();
+        postLikeRepository.deleteAllById(users.stream().map(user -> new PostLikeId(user.getId(), post.getId())).toList());
+        postStatRepository.deleteById(post.getId());
+        postRepository.deleteById(post.getId());
+        userRepository.deleteAll(users);
+        users.clear();
+    }
+
+    @Test
+    @DisplayName("동시 좋아요/취소 요청에도 좋아요 수는 사용자 수와 일치")
+    void concurrentToggle_countsEachUserOnce() throws Exception {
+        // when: 사용자마다 좋아요를 동시에 여러 번 요청
+        hammer((userId, postId) -> postLikeService.saveLike(userId, postId));
+        postStatAsyncService.flush();
+
+        // then
+        assertThat(postLikeRepository.countByIdPostId(post.getId())).isEqualTo(USER_COUNT);
+        assertThat(postStatRepository.findLikeCountById(post.getId())).contains(USER_COUNT);
+
+        // when: 사용자마다 취소를 동시에 여러 번 요청
+        hammer((userId, postId) -> postLikeService.removeLike(userId, postId));
+        postStatAsyncService.flush();
+
+        // then
+        assertThat(postLikeRepository.countByIdPostId(post.getId())).isZero();
+        assertThat(postStatRepository.findLikeCountById(post.getId())).contains(0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 삭제된 사용자의 좋아요는 404, 좋아요 행/카운터 변화 없음")
+    void saveLike_whenUserMissing_throwsNotFound() {
+        // given: 소프트 삭제된 사용자 (FK는 유효하지만 좋아요 불가)
+        User deleted = new User("like-deleted@example.com", "encoded", "likedeleted");
+        deleted.setDeletedAt(LocalDateTime.now());
+        deleted = userRepository.save(deleted);
+        Integer deletedUserId = deleted.getId();
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> postLikeService.saveLike(Integer.MAX_VALUE, post.getId()))
+                    .isInstanceOf(NotFoundException.class);
+            assertThatThrownBy(() -> postLikeService.saveLike(deletedUserId, post.getId()))
+                    .isInstanceOf(NotFoundException.class);
+        } finally {
+            // @SQLRestriction 때문에 리포지토리로는 삭제되지 않으므로 직접 정리
+            jdbcTemplate.update("DELETE FROM `user` WHERE user_id = ?", deletedUserId);
+        }
+        postStatAsyncService.flush();
+        assertThat(postLikeRepository.countByIdPostId(post.getId())).isZero();
+        assertThat(postStatRepository.findLikeCountById(post.getId())).contains(0);
+    }
+
+    private void hammer(BiConsumer<Integer, Integer> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (User user : users) {
+                for (int click = 0; click < CLICKS_PER_USER; click++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        action.accept(user.getId(), post.getId());
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.dto.post.PostListItemDto;
+import com.kakaotechbootcamp.community.entity.Post;
+import com.kakaotechbootcamp.community.entity.PostStat;
+import com.kakaotechbootcamp.community.entity.User;
+import com.kakaotechbootcamp.community.repository.PostListRow;
+import com.kakaotechbootcamp.community.repository.PostRepository;
+import com.kakaotechbootcamp.community.repository.PostStatRepository;
+import com.kakaotechbootcamp.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 경로 비교 벤치마크 (opt-in: -Dbenchmark=true, 결과는 로그로만 확인)
+ * - 프로젝션: PostListRow 한 문장 조회
+ * - 엔티티: 변경 전 방식 (Post + 작성자 fetch join → PostStat IN 조회 → DTO 변환)
+ * - 처리량은 환경에 따라 달라지므로 검증하지 않고, 페이지당 쿼리 수만 검증
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class PostListProjectionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PostListProjectionBenchmarkTest.class);
+
+    private static final int POST_COUNT = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatRepository postStatRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User author = userRepository.save(new User("list-benchmark@example.com", "encoded", "listbench"));
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = postRepository.save(new Post(author, "title" + i, "content" + i));
+            postStatRepository.save(new PostStat(post));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("목록 전체 페이지 순회 처리량 비교: 프로젝션 vs 엔티티")
+    void benchmark_projectionVsEntityPath() {
+        // given: JIT/쿼리 계획 캐시 영향 제거
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            walkProjection();
+            walkEntity();
+        }
+
+        // when
+        Result projection = measure(this::walkProjection);
+        Result entity = measure(this::walkEntity);
+
+        // then: 페이지당 프로젝션 1문장, 엔티티 2문장 (마지막 빈 페이지 조회는 양쪽 모두 1문장)
+        int pages = (POST_COUNT + PAGE_SIZE - 1) / PAGE_SIZE;
+        assertThat(projection.statements()).isEqualTo((long) ROUNDS * (pages + 1));
+        assertThat(entity.statements()).isEqualTo((long) ROUNDS * (pages * 2 + 1));
+
+        log.info("post list x{} rows: projection={}ms ({} rows/s, {} stmts), entity={}ms ({} rows/s, {} stmts)",
+                (long) ROUNDS * POST_COUNT,
+                String.format("%.1f", projection.nanos() / 1e6), String.format("%.0f", projection.rowsPerSecond()),
+                projection.statements(),
+                String.format("%.1f", entity.nanos() / 1e6), String.format("%.0f", entity.rowsPerSecond()),
+                entity.statements());
+    }
+
+    private Result measure(Walk walk) {
+        statistics.clear();
+        long rows = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            rows += walk.run();
+        }
+        long nanos = System.nanoTime() - start;
+        assertThat(rows).isEqualTo((long) ROUNDS * POST_COUNT);
+        return new Result(nanos, rows, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * 프로젝션 경로 전체 페이지 순회
+     */
+    private int walkProjection() {
+        int rows = 0;
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        List<PostListRow> page = postRepository.findFirstPageRows(pageable);
+        while (!page.isEmpty()) {
+            rows += page.stream().map(PostListRow::toItem).toList().size();
+            page = postRepository.findPageRowsByCursor(page.get(page.size() - 1).postId(), pageable);
+        }
+        entityManager.clear();
+        return rows;
+    }
+
+    /**
+     * 엔티티 경로 전체 페이지 순회 (변경 전 목록 쿼리와 동일)
+     */
+    private int walkEntity() {
+        int rows = 0;
+        List<Post> page = findPostPage(null);
+        while (!page.isEmpty()) {
+            List<Integer> postIds = page.stream().map(Post::getId).toList();
+            Map<Integer, PostStat> statMap = postStatRepository.findAllById(postIds).stream()
+                    .collect(Collectors.toMap(PostStat::getId, Function.identity()));
+            rows += PostListItemDto.from(page, statMap, Map.of()).size();
+            page = findPostPage(page.get(page.size() - 1).getId());
+        }
+        entityManager.clear();
+        return rows;
+    }
+
+    private List<Post> findPostPage(Integer cursor) {
+        if (cursor == null) {
+            return entityManager.createQuery("select p from Post p join fetch p.user u order by p.id desc", Post.class)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+        }
+        return entityManager.createQuery("select p from Post p join fetch p.user u where p.id < :cursor order by p.id desc", Post.class)
+                .setParameter("cursor", cursor)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    @FunctionalInterface
+    private interface Walk {
+        int run();
+    }
+
+    private record Result(long nanos, long rows, long statements) {
+        double rowsPerSecond() {
+            return rows / (nanos / 1e9);
+        }
+    }
+}
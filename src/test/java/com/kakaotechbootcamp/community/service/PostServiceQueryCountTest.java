@@ -0,0 +1,135 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.cache.FeedPageCache;
+import com.kakaotechbootcamp.community.cache.LikedPostIndex;
+import com.kakaotechbootcamp.community.entity.Post;
+import com.kakaotechbootcamp.community.entity.PostLike;
+import com.kakaotechbootcamp.community.entity.PostStat;
+import com.kakaotechbootcamp.community.entity.User;
+import com.kakaotechbootcamp.community.repository.PostLikeRepository;
+import com.kakaotechbootcamp.community.repository.PostRepository;
+import com.kakaotechbootcamp.community.repository.PostStatRepository;
+import com.kakaotechbootcamp.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 서비스 쿼리 수 테스트
+ * - Hibernate Statistics의 PreparedStatement 수로 요청당 실행 쿼리 수를 검증
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class PostServiceQueryCountTest {
+
+    private static final int POST_COUNT = 20;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatRepository postStatRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private FeedPageCache feedPageCache;
+
+    @Autowired
+    private LikedPostIndex likedPostIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        author = userRepository.save(new User("query-count@example.com", "encoded", "querycount"));
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = postRepository.save(new Post(author, "title" + i, "content" + i));
+            postStatRepository.save(new PostStat(post));
+            if (i % 2 == 0) {
+                postLikeRepository.save(new PostLike(author.getId(), post.getId()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        // 다른 테스트에서 캐시된 목록 페이지 배제
+        feedPageCache.bumpVersion();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 쿼리 수는 페이지 크기와 무관하게 고정")
+    void list_queryCountIsIndependentOfPageSize() {
+        // given: 좋아요 인덱스 적재
+        likedPostIndex.isLiked(author.getId(), 0);
+
+        // when
+        long smallPage = countStatements(() -> postService.list(null, 5, author.getId()));
+        long fullPage = countStatements(() -> postService.list(null, POST_COUNT, author.getId()));
+
+        // then: 목록(작성자/통계 포함) 1회 (좋아요는 인덱스 조회)
+        assertThat(fullPage).isEqualTo(smallPage);
+        assertThat(fullPage).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 목록 페이지 재조회 시 쿼리 미실행")
+    void list_cachedPageRunsNoQuery() {
+        // given
+        postService.list(null, 5, author.getId());
+
+        // when
+        long cached = countStatements(() -> postService.list(null, 5, author.getId()));
+
+        // then
+        assertThat(cached).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 인덱스는 사용자당 1회 적재 후 메모리에서 isLiked 판단")
+    void list_likedFlagsComeFromIndex() {
+        // when
+        long first = countStatements(() -> postService.list(null, 5, author.getId()));
+        long second = countStatements(() -> postService.list(null, 5, author.getId()));
+        var items = postService.list(null, POST_COUNT, author.getId()).getData().items();
+
+        // then: 목록 1회 + 인덱스 적재 1회, 이후 캐시/인덱스만 사용
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        // setUp에서 짝수 번째 게시글("title0", "title2", ...)만 좋아요
+        assertThat(items).allSatisfy(item ->
+                assertThat(item.isLiked()).isEqualTo(Integer.parseInt(item.title().substring("title".length())) % 2 == 0));
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,161 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.config.PostStatProperties;
+import com.kakaotechbootcamp.community.repository.PostStatRepository;
+import com.kakaotechbootcamp.community.repository.PostStatRepositoryCustom.Delta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * 게시글 통계 write-behind 누적기 테스트
+ * - 트랜잭션 밖에서 호출하므로 증감은 즉시 버퍼에 누적, 반영 트랜잭션은 mock으로 즉시 실행
+ */
+@ExtendWith(MockitoExtension.class)
+class PostStatAsyncServiceTest {
+
+    @Mock
+    private PostStatRepository postStatRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PostStatProperties postStatProperties;
+    private PostStatAsyncService postStatAsyncService;
+
+    @BeforeEach
+    void setUp() {
+        postStatProperties = new PostStatProperties();
+        postStatAsyncService = new PostStatAsyncService(postStatRepository, postStatProperties, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 증감은 한 Delta로 합쳐 반영하고, 반영 중 들어온 증감은 다음 flush로 넘김")
+    void flush_mergesDeltasAcrossSwaps() {
+        // given
+        runTransactionInline();
+        postStatAsyncService.incrementViewCount(1);
+        postStatAsyncService.incrementViewCount(1);
+        postStatAsyncService.incrementLikeCount(1);
+        postStatAsyncService.incrementCommentCount(2);
+        postStatAsyncService.decrementCommentCount(2);
+        willAnswer(invocation -> {
+            // 반영 중(교체 이후) 좋아요: 새 버퍼에 누적, 반영 중인 분과 함께 응답에 포함
+            postStatAsyncService.incrementLikeCount(1);
+            assertThat(postStatAsyncService.pendingLikeDelta(1)).isEqualTo(2);
+            return 1;
+        }).willReturn(1).given(postStatRepository).applyDeltas(anyMap());
+
+        // when
+        postStatAsyncService.flush();
+
+        // then: 합이 0인 게시글(2)은 제외
+        then(postStatRepository).should().applyDeltas(Map.of(1, new Delta(2, 1, 0)));
+        assertThat(postStatAsyncService.pendingLikeDelta(1)).isEqualTo(1);
+
+        // when: 다음 주기
+        postStatAsyncService.flush();
+
+        // then
+        then(postStatRepository).should().applyDeltas(Map.of(1, new Delta(0, 1, 0)));
+        assertThat(postStatAsyncService.pendingLikeDelta(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 누적분을 되돌려 다음 flush에서 새 증감과 합쳐 재시도")
+    void flush_whenApplyFails_requeuesDeltas() {
+        // given
+        runTransactionInline();
+        postStatAsyncService.incrementLikeCount(1);
+        postStatAsyncService.incrementViewCount(1);
+        given(postStatRepository.applyDeltas(anyMap()))
+                .willThrow(new IllegalStateException("DB unavailable"))
+                .willReturn(1);
+
+        // when
+        postStatAsyncService.flush();
+
+        // then: 실패한 누적분은 버퍼로 복귀
+        assertThat(postStatAsyncService.pendingLikeDelta(1)).isEqualTo(1);
+
+        // when
+        postStatAsyncService.incrementLikeCount(1);
+        postStatAsyncService.flush();
+
+        // then
+        InOrder order = inOrder(postStatRepository);
+        order.verify(postStatRepository).applyDeltas(Map.of(1, new Delta(1, 1, 0)));
+        order.verify(postStatRepository).applyDeltas(Map.of(1, new Delta(1, 2, 0)));
+        assertThat(postStatAsyncService.pendingLikeDelta(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("flush-batch-size 단위로 나눠 한 트랜잭션에서 반영")
+    void flush_partitionsByBatchSize() {
+        // given
+        runTransactionInline();
+        postStatProperties.setFlushBatchSize(2);
+        for (int postId = 1; postId <= 3; postId++) {
+            postStatAsyncService.incrementViewCount(postId);
+        }
+
+        // when
+        postStatAsyncService.flush();
+
+        // then
+        then(transactionTemplate).should(times(1)).executeWithoutResult(any());
+        then(postStatRepository).should(times(2)).applyDeltas(anyMap());
+    }
+
+    @Test
+    @DisplayName("종료 시 drain은 남은 누적분을 반영하고, 비어 있으면 DB에 접근하지 않음")
+    void drain_flushesRemainingDeltas() {
+        // given
+        runTransactionInline();
+        postStatAsyncService.incrementCommentCount(7);
+
+        // when
+        postStatAsyncService.drain();
+        postStatAsyncService.drain();
+
+        // then
+        then(postStatRepository).should(times(1)).applyDeltas(Map.of(7, new Delta(0, 0, 1)));
+        then(transactionTemplate).should(times(1)).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("누적분이 없으면 flush는 트랜잭션을 열지 않음")
+    void flush_whenEmpty_doesNothing() {
+        postStatAsyncService.flush();
+
+        then(transactionTemplate).should(never()).executeWithoutResult(any());
+        then(postStatRepository).shouldHaveNoInteractions();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionInline() {
+        willAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+}
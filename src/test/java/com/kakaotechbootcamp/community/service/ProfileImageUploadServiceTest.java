@@ -0,0 +1,134 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.common.ImageProperties;
+import com.kakaotechbootcamp.community.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+/**
+ * 회원가입 프로필 이미지 비동기 업로드 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ProfileImageUploadServiceTest {
+
+    private static final String OBJECT_KEY = "user/1/profile/profile.png";
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path stagingDir;
+
+    private ProfileImageUploadService profileImageUploadService;
+
+    @BeforeEach
+    void setUp() {
+        ImageProperties imageProperties = new ImageProperties();
+        imageProperties.getProfileUpload().setMaxAttempts(3);
+        imageProperties.getProfileUpload().setInitialBackoffMillis(1);
+        imageProperties.getProfileUpload().setStagingDir(stagingDir.toString());
+        profileImageUploadService = new ProfileImageUploadService(s3Service, userRepository, transactionTemplate, imageProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        profileImageUploadService.shutdown();
+    }
+
+    @Test
+    @DisplayName("업로드 실패 시 백오프 후 재시도, 성공하면 키 설정 후 임시 파일 삭제")
+    @SuppressWarnings("unchecked")
+    void uploadAfterCommit_retriesThenSetsKey() throws Exception {
+        // given
+        Path staged = profileImageUploadService.stage(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        given(s3Service.uploadStream(eq(OBJECT_KEY), any(), eq(3L), eq("image/png")))
+                .willThrow(new RuntimeException("S3 unavailable"))
+                .willThrow(new RuntimeException("S3 unavailable"))
+                .willReturn("https://test-bucket/" + OBJECT_KEY);
+        willAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        // when: 트랜잭션 밖이므로 즉시 예약
+        profileImageUploadService.uploadAfterCommit(1, OBJECT_KEY, staged, "image/png");
+
+        // then
+        then(userRepository).should(timeout(2000)).updateProfileImageKeyIfAbsent(1, OBJECT_KEY);
+        then(s3Service).should(times(3)).uploadStream(eq(OBJECT_KEY), any(), anyLong(), eq("image/png"));
+        awaitNotPending(1);
+        assertThat(Files.exists(staged)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 포기하고 키는 설정하지 않음")
+    void uploadAfterCommit_givesUpAfterMaxAttempts() throws Exception {
+        // given
+        Path staged = profileImageUploadService.stage(new ByteArrayInputStream(new byte[]{1}));
+        given(s3Service.uploadStream(eq(OBJECT_KEY), any(), anyLong(), eq("image/png")))
+                .willThrow(new RuntimeException("S3 unavailable"));
+
+        // when
+        profileImageUploadService.uploadAfterCommit(1, OBJECT_KEY, staged, "image/png");
+
+        // then
+        then(s3Service).should(timeout(2000).times(3)).uploadStream(eq(OBJECT_KEY), any(), anyLong(), eq("image/png"));
+        awaitNotPending(1);
+        then(userRepository).should(never()).updateProfileImageKeyIfAbsent(any(), any());
+        assertThat(Files.exists(staged)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기동 시 이전 실행에서 남은 임시 파일만 삭제")
+    void cleanUpStaleStagedFiles_deletesLeftovers() throws Exception {
+        // given: 재시작으로 유실된 업로드의 임시 파일
+        Path stale = profileImageUploadService.stage(new ByteArrayInputStream(new byte[]{1}));
+        Path unrelated = Files.createFile(stagingDir.resolve("other.txt"));
+
+        // when
+        profileImageUploadService.cleanUpStaleStagedFiles();
+
+        // then
+        assertThat(stale).startsWith(stagingDir);
+        assertThat(Files.exists(stale)).isFalse();
+        assertThat(Files.exists(unrelated)).isTrue();
+    }
+
+    private void awaitNotPending(Integer userId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (profileImageUploadService.isPending(userId) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(profileImageUploadService.isPending(userId)).isFalse();
+    }
+}
@@ -0,0 +1,219 @@
+package com.kakaotechbootcamp.community.service;
+
+import com.kakaotechbootcamp.community.config.S3Config;
+import com.kakaotechbootcamp.community.config.S3Properties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3 서비스 테스트
+ * - 프로세스 내 HTTP 서버를 S3 대역으로 사용 (경로 방식 PUT 수신)
+ */
+class S3ServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(S3ServiceTest.class);
+
+    private static final String BUCKET = "test-bucket";
+    private static final int PRESIGN_ROUNDS = 200;
+
+    private final Map<String, byte[]> stored = new ConcurrentHashMap<>();
+    private final S3Config s3Config = new S3Config();
+    private final AwsCredentialsProvider credentials =
+            StaticCredentialsProvider.create(AwsBasicCredentials.create("test-access-key", "test-secret-key"));
+
+    private HttpServer server;
+    private S3Properties s3Properties;
+    private SdkHttpClient httpClient;
+    private S3Client s3Client;
+    private S3Presigner s3Presigner;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = readBody(exchange.getRequestBody(), exchange.getRequestHeaders().getFirst("x-amz-decoded-content-length") != null);
+            if ("PUT".equals(exchange.getRequestMethod())) {
+                stored.put(exchange.getRequestURI().getPath(), body);
+                exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        s3Properties = new S3Properties();
+        s3Properties.setBucketName(BUCKET);
+        s3Properties.setRegion("ap-northeast-2");
+        s3Properties.setPresignedUrlExpirationMinutes(10);
+        s3Properties.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort());
+        s3Properties.setPathStyleAccess(true);
+        s3Properties.setMaxConnections(4);
+
+        httpClient = s3Config.s3HttpClient(s3Properties);
+        s3Client = s3Config.s3Client(s3Properties, credentials, httpClient);
+        s3Presigner = s3Config.s3Presigner(s3Properties, credentials);
+        s3Service = new S3Service(s3Properties, s3Client, s3Presigner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+        s3Client.close();
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("공유 S3Client로 여러 번 업로드해도 모두 대역 서버에 저장")
+    void uploadStream_reusesSharedClient() {
+        // given
+        byte[] first = "first-image".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "second-image".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String firstUrl = s3Service.uploadStream("user/1/profile/profile.png",
+                new ByteArrayInputStream(first), first.length, "image/png");
+        s3Service.uploadStream("user/2/profile/profile.png",
+                new ByteArrayInputStream(second), second.length, "image/png");
+
+        // then
+        assertThat(stored.get("/" + BUCKET + "/user/1/profile/profile.png")).isEqualTo(first);
+        assertThat(stored.get("/" + BUCKET + "/user/2/profile/profile.png")).isEqualTo(second);
+        assertThat(firstUrl).isEqualTo(s3Properties.getEndpoint() + "/" + BUCKET + "/user/1/profile/profile.png");
+    }
+
+    @Test
+    @DisplayName("Presigned URL은 설정한 엔드포인트/버킷 경로로 서명")
+    void generatePresignedUrl_usesConfiguredEndpoint() {
+        // when
+        String url = s3Service.generatePresignedUrl("post/1/images/a.jpg", "image/jpeg");
+
+        // then
+        assertThat(url).startsWith(s3Properties.getEndpoint() + "/" + BUCKET + "/post/1/images/a.jpg?");
+        assertThat(url).contains("X-Amz-Signature=");
+    }
+
+    @Test
+    @DisplayName("Presigned URL 일괄 생성 결과는 요청 순서 유지")
+    void generatePresignedUrls_keepsRequestOrder() {
+        // given
+        List<String> keys = IntStream.range(0, 10).mapToObj(i -> "post/1/images/" + i + ".jpg").toList();
+        List<String> contentTypes = keys.stream().map(key -> "image/jpeg").toList();
+
+        // when
+        List<String> urls = s3Service.generatePresignedUrls(keys, contentTypes);
+
+        // then
+        assertThat(urls).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(urls.get(i)).startsWith(s3Properties.getEndpoint() + "/" + BUCKET + "/" + keys.get(i) + "?");
+        }
+    }
+
+    /**
+     * 벤치마크 (opt-in: -Dbenchmark=true, 결과는 로그로만 확인)
+     */
+    @Test
+    @Tag("benchmark")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("Presign 처리량 비교: 공유 presigner vs 요청마다 생성")
+    void benchmark_sharedPresignerVsPerRequest() {
+        // given: JIT/클래스 로딩 영향 제거
+        for (int i = 0; i < 20; i++) {
+            s3Service.generatePresignedUrl("post/1/images/warmup" + i + ".jpg", "image/jpeg");
+            try (S3Presigner perRequest = s3Config.s3Presigner(s3Properties, credentials)) {
+                new S3Service(s3Properties, s3Client, perRequest).generatePresignedUrl("post/1/images/warmup.jpg", "image/jpeg");
+            }
+        }
+
+        // when
+        long sharedStart = System.nanoTime();
+        for (int i = 0; i < PRESIGN_ROUNDS; i++) {
+            s3Service.generatePresignedUrl("post/1/images/" + i + ".jpg", "image/jpeg");
+        }
+        long sharedNanos = System.nanoTime() - sharedStart;
+
+        long perRequestStart = System.nanoTime();
+        for (int i = 0; i < PRESIGN_ROUNDS; i++) {
+            // 변경 전 방식: 요청마다 presigner 생성/종료
+            try (S3Presigner perRequest = s3Config.s3Presigner(s3Properties, credentials)) {
+                new S3Service(s3Properties, s3Client, perRequest).generatePresignedUrl("post/1/images/" + i + ".jpg", "image/jpeg");
+            }
+        }
+        long perRequestNanos = System.nanoTime() - perRequestStart;
+
+        // then
+        log.info("presign x{}: shared={}ms ({}/s), per-request={}ms ({}/s)",
+                PRESIGN_ROUNDS,
+                String.format("%.1f", sharedNanos / 1e6), String.format("%.0f", PRESIGN_ROUNDS / (sharedNanos / 1e9)),
+                String.format("%.1f", perRequestNanos / 1e6), String.format("%.0f", PRESIGN_ROUNDS / (perRequestNanos / 1e9)));
+    }
+
+    // aws-chunked 인코딩이면 청크 서명 줄을 걷어내고 본문만 복원
+    private static byte[] readBody(InputStream in, boolean awsChunked) throws IOException {
+        byte[] raw = in.readAllBytes();
+        if (!awsChunked) {
+            return raw;
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int pos = 0;
+        while (pos < raw.length) {
+            int lineEnd = indexOfCrlf(raw, pos);
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";", 2)[0].trim(), 16);
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, lineEnd + 2, size);
+            pos = lineEnd + 2 + size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] raw, int from) {
+        for (int i = from; i < raw.length - 1; i++) {
+            if (raw[i] == '\r' && raw[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return raw.length;
+    }
+
+    private static String md5Hex(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
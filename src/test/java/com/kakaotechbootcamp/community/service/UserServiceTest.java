@@ -7,6 +7,7 @@ import com.kakaotechbootcamp.community.common.ImageType;
 import com.kakaotechbootcamp.community.config.JwtProperties;
 import com.kakaotechbootcamp.community.dto.user.UserCreateRequestDto;
 import com.kakaotechbootcamp.community.dto.user.UserLoginRequestDto;
+import com.kakaotechbootcamp.community.dto.user.UserResponseDto;
 import com.kakaotechbootcamp.community.entity.RefreshToken;
 import com.kakaotechbootcamp.community.entity.User;
 import com.kakaotechbootcamp.community.exception.BadRequestException;
@@ -53,7 +54,7 @@ class UserServiceTest {
     private ImageUploadService imageUploadService;
 
     @Mock
-    private S3Service s3Service;
+    private ProfileImageUploadService profileImageUploadService;
 
     @Mock
     private ImageProperties imageProperties;
@@ -165,7 +166,7 @@ class UserServiceTest {
         }
 
         @Test
-        @DisplayName("허용되지 않은 이미지 확장자 시 예외 발생")
+        @DisplayName("이미지 시그니처가 아닌 파일 업로드 시 예외 발생")
         void createMember_whenInvalidImageExtension_throwsBadRequestException() throws Exception {
             // given
             UserCreateRequestDto request = createRequest("test@example.com", "Password123!", "testuser");
@@ -177,9 +178,9 @@ class UserServiceTest {
             given(imageProperties.getMaxSizeBytes()).willReturn(5242880L);
             given(invalidImage.isEmpty()).willReturn(false);
             given(invalidImage.getSize()).willReturn(1000L);
-            given(invalidImage.getContentType()).willReturn("image/exe");
-            given(imageProperties.extractExtensionFromContentType("image/exe")).willReturn("exe");
-            given(imageProperties.getAllowedExtensionSet()).willReturn(java.util.Set.of("jpeg", "jpg", "png", "gif", "webp"));
+            // Content-Type은 이미지로 위장했지만 실제 내용은 실행 파일(MZ 헤더)
+            given(invalidImage.getInputStream()).willReturn(new java.io.ByteArrayInputStream(
+                    new byte[]{'M', 'Z', (byte) 0x90, 0, 3, 0, 0, 0, 4, 0, 0, 0}));
 
             given(userRepository.save(any(User.class))).willAnswer(invocation -> {
                 User user = invocation.getArgument(0);
@@ -192,6 +193,47 @@ class UserServiceTest {
                     .isInstanceOf(BadRequestException.class)
                     .hasMessageContaining("지원하지 않는 이미지 형식");
         }
+
+        @Test
+        @DisplayName("프로필 이미지는 매직 바이트 형식으로 판별 후 커밋 이후 업로드 예약")
+        void createMember_withProfileImage_defersUploadWithSniffedType() throws Exception {
+            // given
+            UserCreateRequestDto request = createRequest("test@example.com", "Password123!", "testuser");
+            MultipartFile pngImage = mock(MultipartFile.class);
+            byte[] pngHeader = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D, 'I', 'H', 'D', 'R'};
+
+            given(userRepository.findByEmailIncludingDeleted("test@example.com")).willReturn(Optional.empty());
+            given(userRepository.countByNicknameIncludingDeleted("testuser")).willReturn(0L);
+            given(passwordEncoder.encode("Password123!")).willReturn("encoded");
+            given(imageProperties.getMaxSizeBytes()).willReturn(5242880L);
+            given(imageProperties.getAllowedExtensionSet()).willReturn(java.util.Set.of("jpeg", "jpg", "png", "gif", "webp"));
+            given(pngImage.isEmpty()).willReturn(false);
+            given(pngImage.getSize()).willReturn((long) pngHeader.length);
+            given(pngImage.getInputStream()).willReturn(new java.io.ByteArrayInputStream(pngHeader));
+            given(imageUploadService.generateObjectKey(ImageType.PROFILE, 1, "profile.png")).willReturn("user/1/profile/profile.png");
+            given(userRepository.save(any(User.class))).willAnswer(invocation -> {
+                User user = invocation.getArgument(0);
+                ReflectionTestUtils.setField(user, "id", 1);
+                return user;
+            });
+
+            java.io.ByteArrayOutputStream staged = new java.io.ByteArrayOutputStream();
+            java.nio.file.Path stagedPath = java.nio.file.Path.of("profile-upload-test.tmp");
+            given(profileImageUploadService.stage(any())).willAnswer(invocation -> {
+                staged.writeBytes(invocation.<java.io.InputStream>getArgument(0).readAllBytes());
+                return stagedPath;
+            });
+
+            // when
+            ApiResponse<UserResponseDto> response = userService.create(request, pngImage);
+
+            // then: 판별에 읽은 앞부분도 되돌려 전체 바이트를 보관, 업로드는 커밋 후 예약
+            assertThat(staged.toByteArray()).isEqualTo(pngHeader);
+            then(profileImageUploadService).should()
+                    .uploadAfterCommit(1, "user/1/profile/profile.png", stagedPath, "image/png");
+            assertThat(response.getData().isProfileImagePending()).isTrue();
+            assertThat(response.getData().getProfileImageKey()).isNull();
+        }
     }
 
     @Nested